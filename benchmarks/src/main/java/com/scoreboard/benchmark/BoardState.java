@@ -0,0 +1,54 @@
+package com.scoreboard.benchmark;
+
+import com.scoreboard.GameStart;
+import com.scoreboard.OperationResult;
+import com.scoreboard.ScoreUpdate;
+import com.scoreboard.Scoreboard;
+import com.scoreboard.model.Game;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A scoreboard pre-filled with {@code boardSize} live games, shared by all benchmark threads.
+ */
+@State(Scope.Benchmark)
+public class BoardState {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    public int boardSize;
+
+    public Scoreboard scoreboard;
+    public long[] gameIds;
+    public String[] playingTeams;
+
+    private final AtomicInteger threadSlots = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void fillBoard() {
+        scoreboard = new Scoreboard();
+        List<GameStart> starts = new ArrayList<>(boardSize);
+        for (int i = 0; i < boardSize; i++) {
+            starts.add(new GameStart("Home " + i, "Away " + i));
+        }
+        // A single batch publishes one snapshot instead of one per game
+        List<OperationResult<Game>> results = scoreboard.startGames(starts);
+
+        gameIds = new long[boardSize];
+        playingTeams = new String[boardSize];
+        List<ScoreUpdate> scores = new ArrayList<>(boardSize);
+        for (int i = 0; i < boardSize; i++) {
+            Game game = results.get(i).value();
+            gameIds[i] = game.getId();
+            playingTeams[i] = game.getHomeTeam();
+            scores.add(new ScoreUpdate(game.getId(), i % 7, i % 5));
+        }
+        scoreboard.updateScores(scores);
+    }
+
+    int nextThreadSlot() {
+        return threadSlots.getAndIncrement();
+    }
+}
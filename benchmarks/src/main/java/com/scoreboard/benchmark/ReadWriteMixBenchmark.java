@@ -0,0 +1,54 @@
+package com.scoreboard.benchmark;
+
+import com.scoreboard.model.Game;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Readers and writers running against the same board at the same time.
+ * <p>
+ * Each group reports writer and reader latency separately. The thread split is fixed per
+ * group; override it from the command line with {@code -tg <writers>,<readers>}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReadWriteMixBenchmark {
+
+    @Benchmark
+    @Group("readHeavy")
+    @GroupThreads(1)
+    public void readHeavyWriter(BoardState board, ThreadCursor cursor) {
+        updateRandomGame(board, cursor);
+    }
+
+    @Benchmark
+    @Group("readHeavy")
+    @GroupThreads(3)
+    public List<Game> readHeavyReader(BoardState board) {
+        return board.scoreboard.getTopGames(10);
+    }
+
+    @Benchmark
+    @Group("writeHeavy")
+    @GroupThreads(3)
+    public void writeHeavyWriter(BoardState board, ThreadCursor cursor) {
+        updateRandomGame(board, cursor);
+    }
+
+    @Benchmark
+    @Group("writeHeavy")
+    @GroupThreads(1)
+    public List<Game> writeHeavyReader(BoardState board) {
+        return board.scoreboard.getSummary();
+    }
+
+    private static void updateRandomGame(BoardState board, ThreadCursor cursor) {
+        long gameId = board.gameIds[cursor.nextIndex(board.boardSize)];
+        board.scoreboard.updateScore(gameId, cursor.nextGoals(), 0);
+    }
+}
@@ -0,0 +1,56 @@
+package com.scoreboard.benchmark;
+
+import com.scoreboard.model.Game;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of the individual scoreboard operations against boards of different sizes.
+ * <p>
+ * Run with {@code -t <threads>} to measure the same operations under contention.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoreboardBenchmark {
+
+    /**
+     * Starts and immediately finishes a game, so the board size stays constant.
+     */
+    @Benchmark
+    public boolean startAndFinishGame(BoardState board, ThreadCursor cursor) {
+        Game game = board.scoreboard.startGame(cursor.spareHomeTeam, cursor.spareAwayTeam);
+        return board.scoreboard.finishGame(game.getId());
+    }
+
+    @Benchmark
+    public void updateScore(BoardState board, ThreadCursor cursor) {
+        long gameId = board.gameIds[cursor.nextIndex(board.boardSize)];
+        board.scoreboard.updateScore(gameId, cursor.nextGoals(), 0);
+    }
+
+    @Benchmark
+    public List<Game> getSummary(BoardState board) {
+        return board.scoreboard.getSummary();
+    }
+
+    @Benchmark
+    public List<Game> getTopGames(BoardState board) {
+        return board.scoreboard.getTopGames(10);
+    }
+
+    @Benchmark
+    public Optional<Game> findGame(BoardState board, ThreadCursor cursor) {
+        return board.scoreboard.findGame(board.gameIds[cursor.nextIndex(board.boardSize)]);
+    }
+
+    @Benchmark
+    public boolean isTeamPlaying(BoardState board, ThreadCursor cursor) {
+        return board.scoreboard.isTeamPlaying(board.playingTeams[cursor.nextIndex(board.boardSize)]);
+    }
+}
@@ -0,0 +1,33 @@
+package com.scoreboard.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+
+/**
+ * Per-thread random position over the board, plus a team pair no other thread uses.
+ */
+@State(Scope.Thread)
+public class ThreadCursor {
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    public String spareHomeTeam;
+    public String spareAwayTeam;
+    public int goals;
+
+    @Setup(Level.Trial)
+    public void claimSpareTeams(BoardState board) {
+        int slot = board.nextThreadSlot();
+        spareHomeTeam = "Spare home " + slot;
+        spareAwayTeam = "Spare away " + slot;
+    }
+
+    public int nextIndex(int bound) {
+        return random.nextInt(bound);
+    }
+
+    public int nextGoals() {
+        goals = (goals + 1) % 50;
+        return goals;
+    }
+}
@@ -0,0 +1,119 @@
+package com.scoreboard;
+
+import com.scoreboard.model.Game;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+/**
+ * Asynchronous view of a {@link Scoreboard} whose operations run on an executor and return
+ * {@link CompletableFuture}s.
+ * <p>
+ * Expected failures are values, not exceptions: a missing game, a team that is already
+ * playing or an invalid argument completes the future normally with a failed
+ * {@link OperationResult}, so callers can compose on outcomes without exception handlers.
+ * Only unexpected errors, such as a journal write failure, complete a future exceptionally.
+ * Null arguments are programming errors and are thrown as {@link NullPointerException} when
+ * the operation is called, before anything is submitted.
+ * Operations submitted from one thread may run concurrently; callers that need one
+ * operation to follow another should chain them.
+ */
+public final class AsyncScoreboard {
+    private final Scoreboard scoreboard;
+    private final Executor executor;
+
+    public AsyncScoreboard(Scoreboard scoreboard) {
+        this(scoreboard, ForkJoinPool.commonPool());
+    }
+
+    public AsyncScoreboard(Scoreboard scoreboard, Executor executor) {
+        this.scoreboard = Objects.requireNonNull(scoreboard, "Scoreboard cannot be null");
+        this.executor = Objects.requireNonNull(executor, "Executor cannot be null");
+    }
+
+    public Scoreboard getScoreboard() {
+        return scoreboard;
+    }
+
+    public CompletableFuture<OperationResult<Game>> startGame(String homeTeam, String awayTeam) {
+        Objects.requireNonNull(homeTeam, "Home team cannot be null");
+        Objects.requireNonNull(awayTeam, "Away team cannot be null");
+        return submit(() -> OperationResult.success(scoreboard.startGame(homeTeam, awayTeam)));
+    }
+
+    public CompletableFuture<OperationResult<Game>> startGame(String homeTeam, String awayTeam, String competition) {
+        Objects.requireNonNull(homeTeam, "Home team cannot be null");
+        Objects.requireNonNull(awayTeam, "Away team cannot be null");
+        Objects.requireNonNull(competition, "Competition cannot be null");
+        return submit(() -> OperationResult.success(scoreboard.startGame(homeTeam, awayTeam, competition)));
+    }
+
+    /**
+     * Sets the score; the result holds the updated game.
+     */
+    public CompletableFuture<OperationResult<Game>> updateScore(long gameId, int homeScore, int awayScore) {
+        return submit(() -> OperationResult.success(scoreboard.updateScoreAndGet(gameId, homeScore, awayScore)));
+    }
+
+    /**
+     * Sets the score only if it is still {@code expectedHome}-{@code expectedAway}; the result
+     * holds whether it was changed.
+     */
+    public CompletableFuture<OperationResult<Boolean>> compareAndSetScore(long gameId, int expectedHome, int expectedAway,
+                                                                         int homeScore, int awayScore) {
+        return submit(() -> OperationResult.success(
+                scoreboard.compareAndSetScore(gameId, expectedHome, expectedAway, homeScore, awayScore)));
+    }
+
+    /**
+     * Applies a versioned feed score; see {@link Scoreboard#ingestScore(long, int, int, long)}.
+     */
+    public CompletableFuture<OperationResult<IngestOutcome>> ingestScore(long gameId, int homeScore, int awayScore,
+                                                                        long sourceVersion) {
+        return submit(() -> OperationResult.success(
+                scoreboard.ingestScore(gameId, homeScore, awayScore, sourceVersion)));
+    }
+
+    /**
+     * Finishes the game; the result holds the game as finished, or
+     * {@link OperationResult.Status#GAME_NOT_FOUND} if it was not live.
+     */
+    public CompletableFuture<OperationResult<Game>> finishGame(long gameId) {
+        return submit(() -> {
+            Game finished = scoreboard.finishGameAndGet(gameId);
+            return finished == null ? Scoreboard.notFound(gameId) : OperationResult.success(finished);
+        });
+    }
+
+    public CompletableFuture<Optional<Game>> findGame(long gameId) {
+        return CompletableFuture.supplyAsync(() -> scoreboard.findGame(gameId), executor);
+    }
+
+    public CompletableFuture<List<Game>> getSummary() {
+        return CompletableFuture.supplyAsync(scoreboard::getSummary, executor);
+    }
+
+    /**
+     * Runs the operation and turns the scoreboard's expected failures into failed results.
+     * The scoreboard throws those without stack traces, so a rejected operation costs about
+     * as much as a successful one.
+     */
+    private <T> CompletableFuture<OperationResult<T>> submit(Supplier<OperationResult<T>> operation) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return operation.get();
+            } catch (GameNotFoundException e) {
+                return OperationResult.failure(OperationResult.Status.GAME_NOT_FOUND, e.getMessage());
+            } catch (TeamAlreadyPlayingException e) {
+                return OperationResult.failure(OperationResult.Status.TEAM_ALREADY_PLAYING, e.getMessage());
+            } catch (IllegalArgumentException e) {
+                return OperationResult.failure(OperationResult.Status.INVALID_ARGUMENT, e.getMessage());
+            }
+        }, executor);
+    }
+}
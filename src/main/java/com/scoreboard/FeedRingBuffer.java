@@ -0,0 +1,117 @@
+package com.scoreboard;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded lock-free ring buffer of feed scores for many producers and a single consumer.
+ * <p>
+ * Entries are kept in primitive columns, so queuing a score allocates nothing. A producer
+ * claims a slot by advancing the tail with a CAS, writes the columns and then publishes
+ * the slot by setting its sequence to one past the claimed position. The consumer reads
+ * a slot once its sequence says it is published and hands it back to producers by
+ * advancing the sequence a full lap. Entries from one producer are drained in the order
+ * they were offered.
+ */
+final class FeedRingBuffer {
+    private final int mask;
+    private final long[] gameIds;
+    private final int[] homeScores;
+    private final int[] awayScores;
+    private final long[] sourceVersions;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * @param capacity number of slots, rounded up to a power of two
+     */
+    FeedRingBuffer(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30 (got: " + capacity + ")");
+        }
+        int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        mask = size - 1;
+        gameIds = new long[size];
+        homeScores = new int[size];
+        awayScores = new int[size];
+        sourceVersions = new long[size];
+        sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * @return {@code false} if the buffer is full
+     */
+    boolean offer(long gameId, int homeScore, int awayScore, long sourceVersion) {
+        long position = tail.get();
+        while (true) {
+            int slot = (int) position & mask;
+            long lag = sequences.getAcquire(slot) - position;
+            if (lag == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    gameIds[slot] = gameId;
+                    homeScores[slot] = homeScore;
+                    awayScores[slot] = awayScore;
+                    sourceVersions[slot] = sourceVersion;
+                    sequences.setRelease(slot, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (lag < 0) {
+                // The slot still holds an entry from the previous lap
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Moves up to {@code limit} published entries into the given columns. Consumer thread only.
+     *
+     * @return the number of entries drained
+     */
+    int drainTo(long[] gameIdsOut, int[] homeScoresOut, int[] awayScoresOut, long[] sourceVersionsOut, int limit) {
+        long position = head.get();
+        int drained = 0;
+        while (drained < limit) {
+            int slot = (int) position & mask;
+            if (sequences.getAcquire(slot) != position + 1) {
+                break;
+            }
+            gameIdsOut[drained] = gameIds[slot];
+            homeScoresOut[drained] = homeScores[slot];
+            awayScoresOut[drained] = awayScores[slot];
+            sourceVersionsOut[drained] = sourceVersions[slot];
+            sequences.setRelease(slot, position + mask + 1);
+            position++;
+            drained++;
+        }
+        if (drained > 0) {
+            head.lazySet(position);
+        }
+        return drained;
+    }
+
+    /**
+     * Returns whether no entry has been claimed past the consumer's position. An entry may be
+     * claimed but not yet published, so a drain can still return nothing after {@code false}.
+     */
+    boolean isEmpty() {
+        return tail.get() == head.get();
+    }
+
+    /**
+     * Returns the number of claimed entries not yet drained; approximate under concurrency.
+     */
+    int size() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+}
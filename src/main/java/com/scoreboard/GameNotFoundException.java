@@ -2,18 +2,40 @@ package com.scoreboard;
 
 /**
  * Exception thrown when attempting to operate on a non-existent game.
+ * <p>
+ * The message is built only when it is read. Scoreboards throw instances without a stack
+ * trace, see {@link #stackless(long)}.
  */
 public class GameNotFoundException extends RuntimeException {
     private final Long gameId;
 
     public GameNotFoundException(Long gameId) {
-        super(String.format(
-                "Game not found with ID: %d. It may have finished or never existed.",
-                gameId
-        ));
+        this(gameId, true);
+    }
+
+    private GameNotFoundException(Long gameId, boolean writableStackTrace) {
+        super(null, null, writableStackTrace, writableStackTrace);
         this.gameId = gameId;
     }
 
+    /**
+     * Creates an instance without a stack trace, for failures callers are expected to handle
+     * routinely, e.g. a late update for a game that has just finished. Filling in the stack
+     * would cost more than the rest of the failed operation.
+     */
+    public static GameNotFoundException stackless(long gameId) {
+        return new GameNotFoundException(gameId, false);
+    }
+
+    static String message(Long gameId) {
+        return "Game not found with ID: " + gameId + ". It may have finished or never existed.";
+    }
+
+    @Override
+    public String getMessage() {
+        return message(gameId);
+    }
+
     public Long getGameId() {
         return gameId;
     }
@@ -0,0 +1,13 @@
+package com.scoreboard;
+
+/**
+ * A single game start submitted through {@link Scoreboard#startGames(java.util.Collection)}.
+ *
+ * @param competition competition or group of the game, or {@code null} if none
+ */
+public record GameStart(String homeTeam, String awayTeam, String competition) {
+
+    public GameStart(String homeTeam, String awayTeam) {
+        this(homeTeam, awayTeam, null);
+    }
+}
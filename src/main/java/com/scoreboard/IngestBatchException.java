@@ -0,0 +1,31 @@
+package com.scoreboard;
+
+/**
+ * Thrown when a score in a batch ingested by {@link ScoreboardIngestor} fails to apply. The
+ * scores before it stay applied and published; the cause is the failure of the score at
+ * {@link #getFailedIndex()}, and the scores after it were not attempted.
+ */
+final class IngestBatchException extends RuntimeException {
+    private final int failedIndex;
+    private final int accepted;
+
+    IngestBatchException(int failedIndex, int accepted, RuntimeException cause) {
+        super("Ingest batch failed at score " + failedIndex, cause);
+        this.failedIndex = failedIndex;
+        this.accepted = accepted;
+    }
+
+    /**
+     * Returns the batch index of the score that failed.
+     */
+    int getFailedIndex() {
+        return failedIndex;
+    }
+
+    /**
+     * Returns how many of the scores before the failing one were accepted.
+     */
+    int getAccepted() {
+        return accepted;
+    }
+}
@@ -0,0 +1,21 @@
+package com.scoreboard;
+
+/**
+ * What {@link Scoreboard#ingestScore(long, int, int, long)} did with a feed update.
+ */
+public enum IngestOutcome {
+    /**
+     * The update was newer than the game's last ingested version and was applied.
+     */
+    ACCEPTED,
+
+    /**
+     * The update was a duplicate or older than the game's last ingested version and was dropped.
+     */
+    STALE,
+
+    /**
+     * The game is not live, e.g. a late redelivery after it finished.
+     */
+    GAME_NOT_FOUND
+}
@@ -0,0 +1,11 @@
+package com.scoreboard;
+
+/**
+ * Counts of feed updates by {@link IngestOutcome} since the scoreboard was created.
+ */
+public record IngestStats(long accepted, long stale, long gameNotFound) {
+
+    public long total() {
+        return accepted + stale + gameNotFound;
+    }
+}
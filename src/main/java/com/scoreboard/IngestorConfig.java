@@ -0,0 +1,53 @@
+package com.scoreboard;
+
+import java.util.Objects;
+
+/**
+ * Configuration of a {@link ScoreboardIngestor}.
+ *
+ * @param laneCount      number of lanes, each drained by its own thread
+ * @param queueDepth     scores each lane can hold, rounded up to a power of two
+ * @param batchSize      most scores a lane applies per snapshot publish
+ * @param overflowPolicy what {@code submit} does when the game's lane is full
+ */
+public record IngestorConfig(int laneCount, int queueDepth, int batchSize, ScoreboardIngestor.OverflowPolicy overflowPolicy) {
+    private static final int DEFAULT_QUEUE_DEPTH = 8_192;
+    private static final int DEFAULT_BATCH_SIZE = 256;
+
+    public IngestorConfig {
+        if (laneCount < 1) {
+            throw new IllegalArgumentException("Lane count must be positive (got: " + laneCount + ")");
+        }
+        if (queueDepth < 1 || queueDepth > 1 << 30) {
+            throw new IllegalArgumentException("Queue depth must be between 1 and 2^30 (got: " + queueDepth + ")");
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive (got: " + batchSize + ")");
+        }
+        Objects.requireNonNull(overflowPolicy, "Overflow policy cannot be null");
+    }
+
+    /**
+     * One lane per two available processors, rejecting scores when a lane is full.
+     */
+    public static IngestorConfig defaults() {
+        int lanes = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new IngestorConfig(lanes, DEFAULT_QUEUE_DEPTH, DEFAULT_BATCH_SIZE, ScoreboardIngestor.OverflowPolicy.REJECT);
+    }
+
+    public IngestorConfig withLaneCount(int count) {
+        return new IngestorConfig(count, queueDepth, batchSize, overflowPolicy);
+    }
+
+    public IngestorConfig withQueueDepth(int depth) {
+        return new IngestorConfig(laneCount, depth, batchSize, overflowPolicy);
+    }
+
+    public IngestorConfig withBatchSize(int size) {
+        return new IngestorConfig(laneCount, queueDepth, size, overflowPolicy);
+    }
+
+    public IngestorConfig withOverflowPolicy(ScoreboardIngestor.OverflowPolicy policy) {
+        return new IngestorConfig(laneCount, queueDepth, batchSize, policy);
+    }
+}
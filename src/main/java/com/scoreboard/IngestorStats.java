@@ -0,0 +1,23 @@
+package com.scoreboard;
+
+/**
+ * Throughput counters of a {@link ScoreboardIngestor} since it was started.
+ *
+ * @param submitted scores queued on a lane
+ * @param rejected  scores refused because their lane was full
+ * @param processed scores drained and ingested by the scoreboard, whether accepted or not
+ * @param accepted  processed scores the scoreboard applied; the rest were stale or for finished games
+ * @param batches   batches applied, each published as one snapshot per run between failing scores
+ * @param failed    scores the scoreboard failed to apply; the rest of their batch is still applied
+ * @param queued    scores waiting in the lanes when the counters were read
+ */
+public record IngestorStats(long submitted, long rejected, long processed, long accepted, long batches, long failed,
+                            long queued) {
+
+    /**
+     * Returns the mean number of scores applied per snapshot publish.
+     */
+    public double meanBatchSize() {
+        return batches == 0 ? 0 : (double) processed / batches;
+    }
+}
@@ -0,0 +1,314 @@
+package com.scoreboard;
+
+import com.scoreboard.model.Game;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+
+/**
+ * Concurrent map from primitive game ID to {@link Game}, without boxing keys.
+ * <p>
+ * IDs are spread over independent stripes. Each stripe is an open-addressing table with
+ * linear probing and backward-shift deletion, guarded by a {@link StampedLock}: lookups
+ * are optimistic and lock-free unless they race a write to the same stripe, and writes
+ * to different stripes never contend. ID {@code 0} marks an empty slot and cannot be stored.
+ */
+final class LongGameMap {
+    private static final int STRIPES = 64;
+    private static final int INITIAL_STRIPE_CAPACITY = 16;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final AtomicInteger size = new AtomicInteger();
+
+    LongGameMap() {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    Game get(long gameId) {
+        return stripeFor(gameId).get(gameId);
+    }
+
+    /**
+     * @return the game already stored under the ID, or {@code null} if this one was added
+     */
+    Game putIfAbsent(long gameId, Game game) {
+        return putIfAbsent(gameId, game, null);
+    }
+
+    /**
+     * Adds the game and, still holding its stripe's write lock, runs {@code onAdded}, so no
+     * update, removal or read of the game can happen before the action completes. If the
+     * action throws, the game is removed again and the exception rethrown.
+     *
+     * @return the game already stored under the ID, or {@code null} if this one was added
+     */
+    Game putIfAbsent(long gameId, Game game, Consumer<Game> onAdded) {
+        if (gameId == 0) {
+            throw new IllegalArgumentException("Game ID 0 is reserved");
+        }
+        Game existing = stripeFor(gameId).putIfAbsent(gameId, game, onAdded);
+        if (existing == null) {
+            size.incrementAndGet();
+        }
+        return existing;
+    }
+
+    /**
+     * Removes the entry only if it still maps to the given game. Waits for any in-flight
+     * {@link #updateIfPresent} on the same stripe.
+     */
+    boolean remove(long gameId, Game game) {
+        boolean removed = stripeFor(gameId).remove(gameId, game);
+        if (removed) {
+            size.decrementAndGet();
+        }
+        return removed;
+    }
+
+    /**
+     * Runs the action on the game while holding its stripe's write lock, so it is
+     * serialised with every other update or removal of the same game.
+     *
+     * @return the game, or {@code null} if the ID is not present
+     */
+    Game updateIfPresent(long gameId, Consumer<Game> action) {
+        return stripeFor(gameId).updateIfPresent(gameId, action);
+    }
+
+    /**
+     * Primitive variant of {@link #updateIfPresent(long, Consumer)} for score changes, so a
+     * preallocated action can be reused instead of capturing the scores in a new lambda.
+     */
+    Game updateIfPresent(long gameId, int homeScore, int awayScore, ScoreAction action) {
+        return stripeFor(gameId).updateIfPresent(gameId, homeScore, awayScore, action);
+    }
+
+    int size() {
+        return size.get();
+    }
+
+    /**
+     * Copies every stored game, in no particular order. Each stripe is read under its lock,
+     * so a game is included if and only if it was added, and not removed, before its stripe
+     * was read.
+     */
+    List<Game> values() {
+        List<Game> values = new ArrayList<>(size.get());
+        for (Stripe stripe : stripes) {
+            stripe.copyValuesTo(values);
+        }
+        return values;
+    }
+
+    @FunctionalInterface
+    interface ScoreAction {
+        void apply(Game game, int homeScore, int awayScore);
+    }
+
+    private Stripe stripeFor(long gameId) {
+        return stripes[(int) (mix(gameId) >>> 58)];
+    }
+
+    /**
+     * Spreads sequential IDs across stripes and slots (the 64-bit finalizer from MurmurHash3).
+     */
+    static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return key;
+    }
+
+    private static final class Stripe {
+        private final StampedLock lock = new StampedLock();
+        private long[] keys = new long[INITIAL_STRIPE_CAPACITY];
+        private Game[] values = new Game[INITIAL_STRIPE_CAPACITY];
+        private int count;
+
+        Game get(long gameId) {
+            long stamp = lock.tryOptimisticRead();
+            Game game = find(keys, values, gameId);
+            if (lock.validate(stamp)) {
+                return game;
+            }
+            stamp = lock.readLock();
+            try {
+                return find(keys, values, gameId);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        Game putIfAbsent(long gameId, Game game, Consumer<Game> onAdded) {
+            long stamp = lock.writeLock();
+            try {
+                int slot = indexOf(keys, gameId);
+                if (slot >= 0) {
+                    return values[slot];
+                }
+                if ((count + 1) * 4 > keys.length * 3) {
+                    resize();
+                }
+                int mask = keys.length - 1;
+                int i = (int) mix(gameId) & mask;
+                while (keys[i] != 0) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = gameId;
+                values[i] = game;
+                count++;
+                if (onAdded != null) {
+                    try {
+                        onAdded.accept(game);
+                    } catch (RuntimeException e) {
+                        deleteAt(i);
+                        count--;
+                        throw e;
+                    }
+                }
+                return null;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        void copyValuesTo(List<Game> target) {
+            long stamp = lock.readLock();
+            try {
+                for (Game game : values) {
+                    if (game != null) {
+                        target.add(game);
+                    }
+                }
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        boolean remove(long gameId, Game game) {
+            long stamp = lock.writeLock();
+            try {
+                int slot = indexOf(keys, gameId);
+                if (slot < 0 || values[slot] != game) {
+                    return false;
+                }
+                deleteAt(slot);
+                count--;
+                return true;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        Game updateIfPresent(long gameId, Consumer<Game> action) {
+            long stamp = lock.writeLock();
+            try {
+                int slot = indexOf(keys, gameId);
+                if (slot < 0) {
+                    return null;
+                }
+                Game game = values[slot];
+                action.accept(game);
+                return game;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        Game updateIfPresent(long gameId, int homeScore, int awayScore, ScoreAction action) {
+            long stamp = lock.writeLock();
+            try {
+                int slot = indexOf(keys, gameId);
+                if (slot < 0) {
+                    return null;
+                }
+                Game game = values[slot];
+                action.apply(game, homeScore, awayScore);
+                return game;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        /**
+         * Closes the gap left by a removed entry by shifting later entries of the probe run back,
+         * so lookups never need tombstones.
+         */
+        private void deleteAt(int slot) {
+            int mask = keys.length - 1;
+            int gap = slot;
+            int i = (slot + 1) & mask;
+            while (keys[i] != 0) {
+                int home = (int) mix(keys[i]) & mask;
+                // Move the entry back if its home slot is not in the cyclic range (gap, i]
+                if (((i - home) & mask) >= ((i - gap) & mask)) {
+                    keys[gap] = keys[i];
+                    values[gap] = values[i];
+                    gap = i;
+                }
+                i = (i + 1) & mask;
+            }
+            keys[gap] = 0;
+            values[gap] = null;
+        }
+
+        private void resize() {
+            long[] oldKeys = keys;
+            Game[] oldValues = values;
+            long[] newKeys = new long[oldKeys.length * 2];
+            Game[] newValues = new Game[oldKeys.length * 2];
+            int mask = newKeys.length - 1;
+            for (int j = 0; j < oldKeys.length; j++) {
+                if (oldKeys[j] != 0) {
+                    int i = (int) mix(oldKeys[j]) & mask;
+                    while (newKeys[i] != 0) {
+                        i = (i + 1) & mask;
+                    }
+                    newKeys[i] = oldKeys[j];
+                    newValues[i] = oldValues[j];
+                }
+            }
+            keys = newKeys;
+            values = newValues;
+        }
+
+        /**
+         * Probes a possibly concurrently modified table; bounded by its length, so an
+         * optimistic read that races a writer terminates and is then rejected by validation.
+         */
+        private static Game find(long[] keys, Game[] values, long gameId) {
+            int mask = keys.length - 1;
+            int i = (int) mix(gameId) & mask;
+            for (int probes = 0; probes < keys.length; probes++) {
+                long key = keys[i];
+                if (key == gameId) {
+                    return i < values.length ? values[i] : null;
+                }
+                if (key == 0) {
+                    return null;
+                }
+                i = (i + 1) & mask;
+            }
+            return null;
+        }
+
+        private static int indexOf(long[] keys, long gameId) {
+            int mask = keys.length - 1;
+            int i = (int) mix(gameId) & mask;
+            while (keys[i] != 0) {
+                if (keys[i] == gameId) {
+                    return i;
+                }
+                i = (i + 1) & mask;
+            }
+            return -1;
+        }
+    }
+}
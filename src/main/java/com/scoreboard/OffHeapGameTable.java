@@ -0,0 +1,388 @@
+package com.scoreboard;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Columnar off-heap storage for live games, backing {@link OffHeapScoreboard}.
+ * <p>
+ * Rows live in fixed-size segments of direct memory with one column each for the game ID,
+ * the two team IDs, the packed score and the start time, so the table keeps no per-game
+ * objects on the heap. Freed rows are reused before the table grows. Inserts and deletes
+ * take the write lock; score updates only take the read lock and write the score column
+ * atomically, so they run in parallel with each other and with reads.
+ */
+final class OffHeapGameTable {
+    private static final int SEGMENT_SHIFT = 12;
+    private static final int ROWS_PER_SEGMENT = 1 << SEGMENT_SHIFT;
+    private static final int ROW_MASK = ROWS_PER_SEGMENT - 1;
+
+    private static final int ID_COLUMN = 0;
+    private static final int TEAMS_COLUMN = 1;
+    private static final int SCORE_COLUMN = 2;
+    private static final int START_COLUMN = 3;
+    private static final int COLUMNS = 4;
+    private static final int SEGMENT_BYTES = COLUMNS * ROWS_PER_SEGMENT * Long.BYTES;
+
+    private static final VarHandle LONG_CELL = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    private final StampedLock lock = new StampedLock();
+    private final RowIndex index = new RowIndex();
+    private ByteBuffer[] segments = new ByteBuffer[0];
+    private int usedRows;
+    private int[] freeRows = new int[16];
+    private int freeRowCount;
+    private volatile int size;
+
+    /**
+     * Receives the columns of one row.
+     */
+    @FunctionalInterface
+    interface RowMapper<T> {
+        T map(long gameId, int homeTeamId, int awayTeamId, long packedScore, long startNanos);
+    }
+
+    /**
+     * @return {@code false} if a row with this game ID already exists
+     */
+    boolean insert(long gameId, int homeTeamId, int awayTeamId, long packedScore, long startNanos) {
+        if (gameId == 0) {
+            throw new IllegalArgumentException("Game ID 0 is reserved");
+        }
+        long stamp = lock.writeLock();
+        try {
+            if (index.get(gameId) >= 0) {
+                return false;
+            }
+            int row = allocateRow();
+            ByteBuffer segment = segments[row >>> SEGMENT_SHIFT];
+            segment.putLong(offset(TEAMS_COLUMN, row), packTeams(homeTeamId, awayTeamId));
+            segment.putLong(offset(START_COLUMN, row), startNanos);
+            segment.putLong(offset(SCORE_COLUMN, row), packedScore);
+            segment.putLong(offset(ID_COLUMN, row), gameId);
+            index.put(gameId, row);
+            size++;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes the row and returns its packed team IDs, so the caller can release the teams.
+     *
+     * @return the packed team IDs, or {@code -1} if no row has this game ID
+     */
+    long delete(long gameId) {
+        long stamp = lock.writeLock();
+        try {
+            int row = index.remove(gameId);
+            if (row < 0) {
+                return -1;
+            }
+            ByteBuffer segment = segments[row >>> SEGMENT_SHIFT];
+            long teams = segment.getLong(offset(TEAMS_COLUMN, row));
+            segment.putLong(offset(ID_COLUMN, row), 0);
+            if (freeRowCount == freeRows.length) {
+                freeRows = Arrays.copyOf(freeRows, freeRowCount * 2);
+            }
+            freeRows[freeRowCount++] = row;
+            size--;
+            return teams;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * @return {@code false} if no row has this game ID
+     */
+    boolean updateScore(long gameId, long packedScore) {
+        long stamp = lock.readLock();
+        try {
+            int row = index.get(gameId);
+            if (row < 0) {
+                return false;
+            }
+            LONG_CELL.setVolatile(segments[row >>> SEGMENT_SHIFT], offset(SCORE_COLUMN, row), packedScore);
+            return true;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * @return the mapped row, or {@code null} if no row has this game ID
+     */
+    <T> T read(long gameId, RowMapper<T> mapper) {
+        long stamp = lock.readLock();
+        try {
+            int row = index.get(gameId);
+            return row < 0 ? null : map(row, readScore(row), mapper);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Maps up to {@code limit} rows starting at summary position {@code offset}, ordered by
+     * total score, then most recent start (highest game ID).
+     * <p>
+     * Only the top {@code offset + limit} rows are ranked, with a bounded heap filled in one
+     * scan, and only the requested page is mapped. The heap lives in per-thread scratch
+     * buffers, so a small page of a large board allocates nothing but the page itself.
+     */
+    <T> List<T> select(int offset, int limit, RowMapper<T> mapper) {
+        long stamp = lock.readLock();
+        try {
+            int wanted = (int) Math.min((long) offset + limit, size);
+            if (offset >= wanted) {
+                return List.of();
+            }
+            Scratch scratch = Scratch.forCapacity(wanted);
+            rankTop(wanted, scratch.rows, scratch.scores);
+            List<T> page = new ArrayList<>(wanted - offset);
+            for (int i = offset; i < wanted; i++) {
+                page.add(map(scratch.rows[i], scratch.scores[i], mapper));
+            }
+            return page;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    static long packScore(int homeScore, int awayScore) {
+        return ((long) homeScore << 32) | (awayScore & 0xFFFFFFFFL);
+    }
+
+    static int homeScore(long packedScore) {
+        return (int) (packedScore >>> 32);
+    }
+
+    static int awayScore(long packedScore) {
+        return (int) packedScore;
+    }
+
+    /**
+     * Fills {@code rows} and {@code scores} with the {@code wanted} best rows, best first.
+     * Each row's score is read once, since scores can change under the read lock.
+     */
+    private void rankTop(int wanted, int[] rows, long[] scores) {
+        // Min-heap on rank: the root is the weakest of the best rows seen so far
+        int heapSize = 0;
+        for (int row = 0; row < usedRows; row++) {
+            if (column(ID_COLUMN, row) == 0) {
+                continue;
+            }
+            long score = readScore(row);
+            if (heapSize < wanted) {
+                siftUp(rows, scores, heapSize++, row, score);
+            } else if (ranksAbove(row, score, rows[0], scores[0])) {
+                siftDown(rows, scores, heapSize, row, score);
+            }
+        }
+        // Repeatedly move the weakest to the back, leaving the heap sorted best first
+        while (heapSize > 1) {
+            int weakestRow = rows[0];
+            long weakestScore = scores[0];
+            heapSize--;
+            siftDown(rows, scores, heapSize, rows[heapSize], scores[heapSize]);
+            rows[heapSize] = weakestRow;
+            scores[heapSize] = weakestScore;
+        }
+    }
+
+    private void siftUp(int[] rows, long[] scores, int i, int row, long score) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!ranksAbove(rows[parent], scores[parent], row, score)) {
+                break;
+            }
+            rows[i] = rows[parent];
+            scores[i] = scores[parent];
+            i = parent;
+        }
+        rows[i] = row;
+        scores[i] = score;
+    }
+
+    /**
+     * Places {@code row} at the root of the heap and sifts it down to its position.
+     */
+    private void siftDown(int[] rows, long[] scores, int heapSize, int row, long score) {
+        int i = 0;
+        int child;
+        while ((child = 2 * i + 1) < heapSize) {
+            if (child + 1 < heapSize && ranksAbove(rows[child], scores[child], rows[child + 1], scores[child + 1])) {
+                child++;
+            }
+            if (!ranksAbove(row, score, rows[child], scores[child])) {
+                break;
+            }
+            rows[i] = rows[child];
+            scores[i] = scores[child];
+            i = child;
+        }
+        rows[i] = row;
+        scores[i] = score;
+    }
+
+    private boolean ranksAbove(int rowA, long scoreA, int rowB, long scoreB) {
+        int totalA = homeScore(scoreA) + awayScore(scoreA);
+        int totalB = homeScore(scoreB) + awayScore(scoreB);
+        if (totalA != totalB) {
+            return totalA > totalB;
+        }
+        // IDs are allocated in start order, so they double as the start sequence
+        return column(ID_COLUMN, rowA) > column(ID_COLUMN, rowB);
+    }
+
+    private <T> T map(int row, long packedScore, RowMapper<T> mapper) {
+        long teams = column(TEAMS_COLUMN, row);
+        return mapper.map(column(ID_COLUMN, row), (int) (teams >>> 32), (int) teams,
+                packedScore, column(START_COLUMN, row));
+    }
+
+    private long readScore(int row) {
+        return (long) LONG_CELL.getVolatile(segments[row >>> SEGMENT_SHIFT], offset(SCORE_COLUMN, row));
+    }
+
+    private long column(int column, int row) {
+        return segments[row >>> SEGMENT_SHIFT].getLong(offset(column, row));
+    }
+
+    private int allocateRow() {
+        if (freeRowCount > 0) {
+            return freeRows[--freeRowCount];
+        }
+        if (usedRows == segments.length * ROWS_PER_SEGMENT) {
+            segments = Arrays.copyOf(segments, segments.length + 1);
+            segments[segments.length - 1] = ByteBuffer.allocateDirect(SEGMENT_BYTES).order(ByteOrder.nativeOrder());
+        }
+        return usedRows++;
+    }
+
+    private static int offset(int column, int row) {
+        return (column * ROWS_PER_SEGMENT + (row & ROW_MASK)) * Long.BYTES;
+    }
+
+    private static long packTeams(int homeTeamId, int awayTeamId) {
+        return ((long) homeTeamId << 32) | (awayTeamId & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Per-thread heap buffers for {@link #select}. Buffers up to one segment's worth of rows
+     * are kept for the next call; larger ones, e.g. for a full summary of a big board, are
+     * allocated per call so that no thread pins a board-sized buffer.
+     */
+    private static final class Scratch {
+        private static final ThreadLocal<Scratch> CACHED = ThreadLocal.withInitial(() -> new Scratch(16));
+
+        final int[] rows;
+        final long[] scores;
+
+        private Scratch(int capacity) {
+            rows = new int[capacity];
+            scores = new long[capacity];
+        }
+
+        static Scratch forCapacity(int capacity) {
+            if (capacity > ROWS_PER_SEGMENT) {
+                return new Scratch(capacity);
+            }
+            Scratch cached = CACHED.get();
+            if (cached.rows.length < capacity) {
+                cached = new Scratch(Math.min(Math.max(capacity, cached.rows.length * 2), ROWS_PER_SEGMENT));
+                CACHED.set(cached);
+            }
+            return cached;
+        }
+    }
+
+    /**
+     * Open-addressing map from game ID to row, guarded by the table's lock.
+     */
+    private static final class RowIndex {
+        private long[] keys = new long[16];
+        private int[] rows = new int[16];
+        private int count;
+
+        int get(long gameId) {
+            int slot = slotOf(gameId);
+            return slot < 0 ? -1 : rows[slot];
+        }
+
+        void put(long gameId, int row) {
+            if ((count + 1) * 4 > keys.length * 3) {
+                resize();
+            }
+            int mask = keys.length - 1;
+            int i = (int) LongGameMap.mix(gameId) & mask;
+            while (keys[i] != 0) {
+                i = (i + 1) & mask;
+            }
+            keys[i] = gameId;
+            rows[i] = row;
+            count++;
+        }
+
+        int remove(long gameId) {
+            int slot = slotOf(gameId);
+            if (slot < 0) {
+                return -1;
+            }
+            int row = rows[slot];
+            // Backward-shift deletion, as in LongGameMap
+            int mask = keys.length - 1;
+            int gap = slot;
+            int i = (slot + 1) & mask;
+            while (keys[i] != 0) {
+                int home = (int) LongGameMap.mix(keys[i]) & mask;
+                if (((i - home) & mask) >= ((i - gap) & mask)) {
+                    keys[gap] = keys[i];
+                    rows[gap] = rows[i];
+                    gap = i;
+                }
+                i = (i + 1) & mask;
+            }
+            keys[gap] = 0;
+            count--;
+            return row;
+        }
+
+        private int slotOf(long gameId) {
+            int mask = keys.length - 1;
+            int i = (int) LongGameMap.mix(gameId) & mask;
+            while (keys[i] != 0) {
+                if (keys[i] == gameId) {
+                    return i;
+                }
+                i = (i + 1) & mask;
+            }
+            return -1;
+        }
+
+        private void resize() {
+            long[] oldKeys = keys;
+            int[] oldRows = rows;
+            keys = new long[oldKeys.length * 2];
+            rows = new int[oldKeys.length * 2];
+            count = 0;
+            for (int j = 0; j < oldKeys.length; j++) {
+                if (oldKeys[j] != 0) {
+                    put(oldKeys[j], oldRows[j]);
+                }
+            }
+        }
+    }
+}
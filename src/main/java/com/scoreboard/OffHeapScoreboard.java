@@ -0,0 +1,168 @@
+package com.scoreboard;
+
+import com.scoreboard.model.Game;
+import com.scoreboard.model.Score;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Scoreboard for very large boards that keeps live games in off-heap columns instead of
+ * one {@link Game} object per fixture.
+ * <p>
+ * Each game costs a fixed-size row of direct memory and team names are interned once, so
+ * heap usage and GC work do not grow with the number of live games. The {@code Game}
+ * instances returned are views materialised from a row on demand: they carry the state at
+ * the time of the call and are not updated afterwards. Summaries rank rows in place and
+ * only materialise the requested page. Team names in views use the first spelling the
+ * board saw for each team.
+ * <p>
+ * Offers a subset of {@link Scoreboard}, with the same signatures so callers can switch
+ * engines: starting, updating, finding and finishing games by boxed or primitive ID, summaries,
+ * pages and top games, and team lookups. Competitions, batches, compare-and-set and feed
+ * ingestion, snapshots and payloads, journaling, change events and metrics are not available
+ * on this storage engine.
+ */
+public final class OffHeapScoreboard {
+    private final OffHeapGameTable table = new OffHeapGameTable();
+    private final TeamRegistry teams = new TeamRegistry();
+    private final AtomicLong idGenerator = new AtomicLong(1);
+    private final OffHeapGameTable.RowMapper<Game> gameView = this::view;
+
+    /**
+     * Starts a game and returns a view of it as started.
+     *
+     * @throws TeamAlreadyPlayingException if either team is already in a live game
+     */
+    public Game startGame(String homeTeam, String awayTeam) {
+        Game game = new Game(idGenerator.getAndIncrement(), homeTeam, awayTeam);
+        long gameId = game.getId();
+
+        TeamRegistry.Team home = teams.intern(game.getHomeTeam());
+        TeamRegistry.Team away = teams.intern(game.getAwayTeam());
+        if (!home.reserve(gameId)) {
+            throw TeamAlreadyPlayingException.stackless(game.getHomeTeam());
+        }
+        if (!away.reserve(gameId)) {
+            home.release(gameId);
+            throw TeamAlreadyPlayingException.stackless(game.getAwayTeam());
+        }
+
+        table.insert(gameId, home.getId(), away.getId(), OffHeapGameTable.packScore(0, 0),
+                toEpochNanos(game.getStartTime()));
+        return game;
+    }
+
+    public void updateScore(Long gameId, int homeScore, int awayScore) {
+        Objects.requireNonNull(gameId, "Game ID cannot be null");
+        updateScore(gameId.longValue(), homeScore, awayScore);
+    }
+
+    /**
+     * Primitive overload of {@link #updateScore(Long, int, int)} that avoids boxing the ID.
+     *
+     * @throws GameNotFoundException if the game is not live
+     */
+    public void updateScore(long gameId, int homeScore, int awayScore) {
+        Score.validate(homeScore, awayScore);
+        if (!table.updateScore(gameId, OffHeapGameTable.packScore(homeScore, awayScore))) {
+            throw GameNotFoundException.stackless(gameId);
+        }
+    }
+
+    public boolean finishGame(Long gameId) {
+        Objects.requireNonNull(gameId, "Game ID cannot be null");
+        return finishGame(gameId.longValue());
+    }
+
+    /**
+     * Primitive overload of {@link #finishGame(Long)} that avoids boxing the ID.
+     */
+    public boolean finishGame(long gameId) {
+        long teamIds = table.delete(gameId);
+        if (teamIds < 0) {
+            return false;
+        }
+        teams.get((int) (teamIds >>> 32)).release(gameId);
+        teams.get((int) teamIds).release(gameId);
+        return true;
+    }
+
+    public Optional<Game> findGame(Long gameId) {
+        Objects.requireNonNull(gameId, "Game ID cannot be null");
+        return findGame(gameId.longValue());
+    }
+
+    /**
+     * Primitive overload of {@link #findGame(Long)} that avoids boxing the ID.
+     */
+    public Optional<Game> findGame(long gameId) {
+        return Optional.ofNullable(table.read(gameId, gameView));
+    }
+
+    public List<Game> getSummary() {
+        return table.select(0, Integer.MAX_VALUE, gameView);
+    }
+
+    /**
+     * Returns up to {@code limit} games starting at summary position {@code offset},
+     * materialising only that page.
+     */
+    public List<Game> getSummary(int offset, int limit) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("Offset cannot be negative (got: " + offset + ")");
+        }
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit cannot be negative (got: " + limit + ")");
+        }
+        return table.select(offset, limit, gameView);
+    }
+
+    public List<Game> getTopGames(int k) {
+        return getSummary(0, k);
+    }
+
+    public boolean isTeamPlaying(String teamName) {
+        Objects.requireNonNull(teamName, "Team name cannot be null");
+        TeamRegistry.Team team = teams.find(teamName);
+        return team != null && team.isPlaying();
+    }
+
+    /**
+     * Returns a view of the live game the team is playing in, found through the team's reservation.
+     */
+    public Optional<Game> findGameByTeam(String teamName) {
+        Objects.requireNonNull(teamName, "Team name cannot be null");
+        TeamRegistry.Team team = teams.find(teamName);
+        long gameId = team == null ? 0 : team.getGameId();
+        return gameId == 0 ? Optional.empty() : findGame(gameId);
+    }
+
+    public Set<String> getActiveTeams() {
+        return teams.getActiveTeamNames();
+    }
+
+    public List<Game> getAllGames() {
+        return getSummary();
+    }
+
+    public int getGameCount() {
+        return table.size();
+    }
+
+    private Game view(long gameId, int homeTeamId, int awayTeamId, long packedScore, long startNanos) {
+        Instant startTime = Instant.ofEpochSecond(Math.floorDiv(startNanos, 1_000_000_000L),
+                Math.floorMod(startNanos, 1_000_000_000L));
+        Game game = new Game(gameId, teams.get(homeTeamId).getName(), teams.get(awayTeamId).getName(), startTime);
+        game.updateScore(OffHeapGameTable.homeScore(packedScore), OffHeapGameTable.awayScore(packedScore));
+        return game;
+    }
+
+    private static long toEpochNanos(Instant instant) {
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000_000L), instant.getNano());
+    }
+}
@@ -0,0 +1,42 @@
+package com.scoreboard;
+
+import java.util.Objects;
+
+/**
+ * Outcome of a single item in a batch operation, or of an {@link AsyncScoreboard} operation.
+ * <p>
+ * Batch operations report failures per item instead of throwing, so one bad item
+ * cannot abort the rest of the batch.
+ *
+ * @param status  what happened to the item
+ * @param value   the affected value on success, {@code null} otherwise
+ * @param message failure detail, {@code null} on success
+ */
+public record OperationResult<T>(Status status, T value, String message) {
+
+    public enum Status {
+        SUCCESS,
+        GAME_NOT_FOUND,
+        TEAM_ALREADY_PLAYING,
+        INVALID_ARGUMENT
+    }
+
+    public OperationResult {
+        Objects.requireNonNull(status, "Status cannot be null");
+    }
+
+    public static <T> OperationResult<T> success(T value) {
+        return new OperationResult<>(Status.SUCCESS, value, null);
+    }
+
+    public static <T> OperationResult<T> failure(Status status, String message) {
+        if (status == Status.SUCCESS) {
+            throw new IllegalArgumentException("Failure status cannot be SUCCESS");
+        }
+        return new OperationResult<>(status, null, message);
+    }
+
+    public boolean isSuccess() {
+        return status == Status.SUCCESS;
+    }
+}
@@ -0,0 +1,7 @@
+package com.scoreboard;
+
+/**
+ * A single score change submitted through {@link Scoreboard#updateScores(java.util.Collection)}.
+ */
+public record ScoreUpdate(long gameId, int homeScore, int awayScore) {
+}
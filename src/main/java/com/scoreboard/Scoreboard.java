@@ -1,10 +1,28 @@
 package com.scoreboard;
 
+import com.scoreboard.event.BackpressurePolicy;
+import com.scoreboard.event.ScoreboardEvent;
+import com.scoreboard.event.ScoreboardEventPublisher;
+import com.scoreboard.journal.Journal;
+import com.scoreboard.journal.JournalReplayHandler;
+import com.scoreboard.journal.SnapshotContents;
+import com.scoreboard.metrics.ScoreboardMetrics;
+import com.scoreboard.metrics.ScoreboardMetrics.Failure;
+import com.scoreboard.metrics.ScoreboardMetrics.Operation;
 import com.scoreboard.model.Game;
+import com.scoreboard.model.Score;
 
+import java.io.IOException;
+import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 
 import java.util.Objects;
 import java.util.Optional;
@@ -12,106 +30,975 @@ import java.util.Optional;
 /**
  * Thread-safe Live Football World Cup Score Board.
  */
-public class Scoreboard {
-    private final Map<Long, Game> games;
-    private final AtomicLong idGenerator = new AtomicLong(1);
-    private final Set<String> activeTeams;
+public final class Scoreboard {
+    private final LongGameMap games;
+    private final AtomicLong idGenerator;
+    private final AtomicLong startSequenceGenerator;
+    private final TeamRegistry teams;
+    private final SummaryIndex summaryIndex = new SummaryIndex();
+    private final ConcurrentHashMap<String, Set<Game>> gamesByCompetition = new ConcurrentHashMap<>();
+    private final AtomicLong versionGenerator = new AtomicLong();
+    private final AtomicReference<ScoreboardSnapshot> snapshot = new AtomicReference<>(ScoreboardSnapshot.EMPTY);
+    private final ReentrantLock snapshotLock = new ReentrantLock();
+    private final AtomicReferenceArray<SummaryPayload> summaryPayloads =
+            new AtomicReferenceArray<>(SummaryFormat.values().length);
+    private final ReentrantLock summaryPayloadLock = new ReentrantLock();
+    private final Journal journal;
+    private final ScoreboardEventPublisher events = new ScoreboardEventPublisher();
+    private final AtomicLong eventSequence = new AtomicLong();
+    private final ConcurrentLinkedQueue<ScoreboardEvent> pendingEvents = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock deliveryLock = new ReentrantLock();
+    private final ScoreboardMetrics metrics;
+    private final LongAdder ingestedAccepted = new LongAdder();
+    private final LongAdder ingestedStale = new LongAdder();
+    private final LongAdder ingestedNotFound = new LongAdder();
+    private final LongGameMap.ScoreAction recordedScoreAction = (game, home, away) -> setScore(game, home, away, true);
+    private final LongGameMap.ScoreAction replayedScoreAction = (game, home, away) -> setScore(game, home, away, false);
 
     public Scoreboard() {
-        this.games = new ConcurrentHashMap<>();
-        this.activeTeams = ConcurrentHashMap.newKeySet();
+        this(ScoreboardMetrics.NOOP);
+    }
+
+    /**
+     * Creates a scoreboard that reports operation latencies, failures and gauges to {@code metrics}.
+     */
+    public Scoreboard(ScoreboardMetrics metrics) {
+        this(new TeamRegistry(), new AtomicLong(1), new AtomicLong(), metrics);
+        // Last, so the gauges can never observe a partly constructed scoreboard
+        metrics.bindGauges(this::getGameCount, teams::getActiveTeamCount);
+    }
+
+    /**
+     * Creates one shard of a {@link ShardedScoreboard}, sharing teams, game IDs and start
+     * sequences with the other shards so that both stay unique across the whole board.
+     */
+    Scoreboard(TeamRegistry teams, AtomicLong idGenerator, AtomicLong startSequenceGenerator, ScoreboardMetrics metrics) {
+        this.games = new LongGameMap();
+        this.teams = teams;
+        this.idGenerator = idGenerator;
+        this.startSequenceGenerator = startSequenceGenerator;
+        this.journal = null;
+        this.metrics = Objects.requireNonNull(metrics, "Metrics cannot be null");
+    }
+
+    /**
+     * Creates a scoreboard that rebuilds its state from the journal's snapshot and records,
+     * then records every mutation to it and supplies the state for its checkpoints.
+     * The caller remains responsible for closing the journal.
+     */
+    public Scoreboard(Journal journal) throws IOException {
+        this(journal, ScoreboardMetrics.NOOP);
+    }
+
+    public Scoreboard(Journal journal, ScoreboardMetrics metrics) throws IOException {
+        this.games = new LongGameMap();
+        this.teams = new TeamRegistry();
+        this.idGenerator = new AtomicLong(1);
+        this.startSequenceGenerator = new AtomicLong();
+        this.journal = Objects.requireNonNull(journal, "Journal cannot be null");
+        this.metrics = Objects.requireNonNull(metrics, "Metrics cannot be null");
+
+        journal.replay(new JournalRestorer());
+        journal.attach(this::checkpointContents);
+        publishSnapshot();
+        // Last, so the gauges can never observe a partly constructed scoreboard
+        metrics.bindGauges(this::getGameCount, teams::getActiveTeamCount);
     }
 
     public Game startGame(String homeTeam, String awayTeam) {
-        Long gameId = idGenerator.getAndIncrement();
-        Game game = new Game(gameId, homeTeam, awayTeam);
+        return startGame(idGenerator.getAndIncrement(), homeTeam, awayTeam, null);
+    }
 
-        String normalizedHome = game.getHomeTeam();
-        String normalizedAway = game.getAwayTeam();
+    /**
+     * Starts a game that belongs to a competition or group, e.g. {@code "Group A"}, so it can be
+     * listed with {@link #getSummaryByCompetition(String)}.
+     */
+    public Game startGame(String homeTeam, String awayTeam, String competition) {
+        Objects.requireNonNull(competition, "Competition cannot be null");
+        return startGame(idGenerator.getAndIncrement(), homeTeam, awayTeam, competition);
+    }
 
-        if (activeTeams.contains(normalizedHome)) {
-            throw new TeamAlreadyPlayingException(normalizedHome);
-        }
+    /**
+     * Starts a game under an ID the caller has already allocated, e.g. a {@link ShardedScoreboard}
+     * that picks the shard from the ID.
+     */
+    Game startGame(long gameId, String homeTeam, String awayTeam, String competition) {
+        long startNanos = metrics.startTimer();
+        try {
+            Game game = newGame(gameId, homeTeam, awayTeam, competition);
 
-        if (activeTeams.contains(normalizedAway)) {
-            throw new TeamAlreadyPlayingException(normalizedAway);
+            register(game, true);
+
+            publishSnapshot();
+            return game;
+        } catch (RuntimeException e) {
+            throw failed(e);
+        } finally {
+            metrics.recordLatency(Operation.START_GAME, startNanos);
         }
+    }
 
-        activeTeams.add(normalizedHome);
-        activeTeams.add(normalizedAway);
+    /**
+     * Starts every game in the batch and publishes a single snapshot for the whole batch.
+     * All items are validated before any is applied; failures are reported per item.
+     */
+    public List<OperationResult<Game>> startGames(Collection<GameStart> starts) {
+        Objects.requireNonNull(starts, "Game starts cannot be null");
+        long startNanos = metrics.startTimer();
 
-        Game existing = games.putIfAbsent(gameId, game);
-        if (existing != null) {
+        List<OperationResult<Game>> results = new ArrayList<>(starts.size());
+        for (GameStart start : starts) {
+            try {
+                Objects.requireNonNull(start, "Game start cannot be null");
+                results.add(OperationResult.success(newGame(idGenerator.getAndIncrement(),
+                        start.homeTeam(), start.awayTeam(), start.competition())));
+            } catch (NullPointerException | IllegalArgumentException e) {
+                results.add(OperationResult.failure(OperationResult.Status.INVALID_ARGUMENT, e.getMessage()));
+            }
+        }
 
-            activeTeams.remove(normalizedHome);
-            activeTeams.remove(normalizedAway);
-            throw new IllegalStateException("Game ID collision detected: " + gameId);
+        boolean changed = false;
+        for (int i = 0; i < results.size(); i++) {
+            OperationResult<Game> result = results.get(i);
+            if (!result.isSuccess()) {
+                continue;
+            }
+            try {
+                register(result.value(), true);
+                changed = true;
+            } catch (TeamAlreadyPlayingException e) {
+                results.set(i, OperationResult.failure(OperationResult.Status.TEAM_ALREADY_PLAYING, e.getMessage()));
+            }
         }
 
-        return game;
+        if (changed) {
+            publishSnapshot();
+        }
+        return recordBatch(Operation.START_GAMES, startNanos, results);
     }
 
     public boolean finishGame(Long gameId) {
         Objects.requireNonNull(gameId, "Game ID cannot be null");
+        return finishGame(gameId.longValue());
+    }
 
-        Game game = games.remove(gameId);
+    /**
+     * Primitive overload of {@link #finishGame(Long)} that avoids boxing the ID.
+     */
+    public boolean finishGame(long gameId) {
+        return finishGameAndGet(gameId) != null;
+    }
+
+    /**
+     * Finishes the game and returns it as finished, or {@code null} if it was not live.
+     */
+    Game finishGameAndGet(long gameId) {
+        long startNanos = metrics.startTimer();
+        try {
+            Game finished = unregister(gameId, true, Instant.now());
+            if (finished != null) {
+                publishSnapshot();
+            }
+            return finished;
+        } finally {
+            metrics.recordLatency(Operation.FINISH_GAME, startNanos);
+        }
+    }
 
-        if (game != null) {
-            activeTeams.remove(game.getHomeTeam());
-            activeTeams.remove(game.getAwayTeam());
+    /**
+     * Finishes every game in the batch and publishes a single snapshot for the whole batch.
+     * Unknown IDs are reported as {@link OperationResult.Status#GAME_NOT_FOUND}.
+     */
+    public List<OperationResult<Game>> finishGames(Collection<Long> gameIds) {
+        Objects.requireNonNull(gameIds, "Game IDs cannot be null");
+        long startNanos = metrics.startTimer();
 
-            return true;
+        List<OperationResult<Game>> results = new ArrayList<>(gameIds.size());
+        boolean changed = false;
+        for (Long gameId : gameIds) {
+            if (gameId == null) {
+                results.add(OperationResult.failure(OperationResult.Status.INVALID_ARGUMENT, "Game ID cannot be null"));
+                continue;
+            }
+            Game finished = unregister(gameId, true, Instant.now());
+            if (finished == null) {
+                results.add(notFound(gameId));
+            } else {
+                results.add(OperationResult.success(finished));
+                changed = true;
+            }
         }
 
-        return false;
+        if (changed) {
+            publishSnapshot();
+        }
+        return recordBatch(Operation.FINISH_GAMES, startNanos, results);
     }
 
     public void updateScore(Long gameId, int homeScore, int awayScore) {
         Objects.requireNonNull(gameId, "Game ID cannot be null");
+        updateScore(gameId.longValue(), homeScore, awayScore);
+    }
 
-        Game game = games.computeIfPresent(gameId, (key, existingGame) -> {
-            existingGame.updateScore(homeScore, awayScore);
-            return existingGame;
-        });
+    /**
+     * Primitive overload of {@link #updateScore(Long, int, int)} that avoids boxing the ID.
+     */
+    public void updateScore(long gameId, int homeScore, int awayScore) {
+        updateScoreAndGet(gameId, homeScore, awayScore);
+    }
 
-        if (game == null) {
-            throw new GameNotFoundException(gameId);
+    /**
+     * Sets the score and returns the updated game.
+     *
+     * @throws GameNotFoundException if the game is not live
+     */
+    Game updateScoreAndGet(long gameId, int homeScore, int awayScore) {
+        long startNanos = metrics.startTimer();
+        try {
+            Score.validate(homeScore, awayScore);
+            Game game = applyScore(gameId, homeScore, awayScore, true);
+            if (game == null) {
+                throw GameNotFoundException.stackless(gameId);
+            }
+
+            publishSnapshot();
+            return game;
+        } catch (RuntimeException e) {
+            throw failed(e);
+        } finally {
+            metrics.recordLatency(Operation.UPDATE_SCORE, startNanos);
+        }
+    }
+
+    /**
+     * Sets the score only if it is still {@code expectedHome}-{@code expectedAway}, e.g. to
+     * apply a correction without overwriting a goal recorded concurrently.
+     *
+     * @return {@code true} if the score was changed
+     * @throws GameNotFoundException if the game is not live
+     */
+    public boolean compareAndSetScore(long gameId, int expectedHome, int expectedAway, int homeScore, int awayScore) {
+        long startNanos = metrics.startTimer();
+        try {
+            Score.validate(homeScore, awayScore);
+            boolean[] changed = new boolean[1];
+            Game game = games.updateIfPresent(gameId, existingGame -> {
+                if (existingGame.compareAndSetScore(expectedHome, expectedAway, homeScore, awayScore)) {
+                    summaryIndex.reposition(existingGame, expectedHome + expectedAway);
+                    recordScoreUpdated(gameId, homeScore, awayScore, Long.MIN_VALUE);
+                    changed[0] = true;
+                }
+            });
+            if (game == null) {
+                throw GameNotFoundException.stackless(gameId);
+            }
+
+            if (changed[0]) {
+                publishSnapshot();
+            }
+            return changed[0];
+        } catch (RuntimeException e) {
+            throw failed(e);
+        } finally {
+            metrics.recordLatency(Operation.COMPARE_AND_SET_SCORE, startNanos);
+        }
+    }
+
+    /**
+     * Applies a score from an at-least-once feed that may redeliver or reorder messages.
+     * The update is applied only if {@code sourceVersion}, e.g. the provider's sequence number
+     * or timestamp for the game, is newer than the last one ingested for the game.
+     * <p>
+     * Duplicates and stale updates are detected with a lock-free read of the game's version
+     * and dropped without contending with writers; the rest are re-checked while the update
+     * is applied. Parallel consumers of one feed therefore need no dedup stage in front.
+     * Outcomes are counted in {@link #getIngestStats()}.
+     *
+     * @throws IllegalArgumentException if the score is invalid
+     */
+    public IngestOutcome ingestScore(long gameId, int homeScore, int awayScore, long sourceVersion) {
+        long startNanos = metrics.startTimer();
+        try {
+            Score.validate(homeScore, awayScore);
+            IngestOutcome outcome = applyIngested(gameId, homeScore, awayScore, sourceVersion);
+            if (outcome == IngestOutcome.ACCEPTED) {
+                publishSnapshot();
+            }
+            return outcome;
+        } catch (RuntimeException e) {
+            throw failed(e);
+        } finally {
+            metrics.recordLatency(Operation.INGEST_SCORE, startNanos);
         }
     }
 
+    /**
+     * Ingests the feed scores at indexes {@code from} (inclusive) to {@code to} (exclusive) of a
+     * batch drained by {@link ScoreboardIngestor} and publishes a single snapshot for them. The
+     * scores must already be validated.
+     *
+     * @return the number of updates accepted
+     * @throws IngestBatchException if a score fails to apply; the scores before it stay applied
+     *                              and are published, the ones after it are not attempted
+     */
+    int ingestScores(long[] gameIds, int[] homeScores, int[] awayScores, long[] sourceVersions, int from, int to) {
+        long startNanos = metrics.startTimer();
+        int accepted = 0;
+        int i = from;
+        try {
+            for (; i < to; i++) {
+                if (applyIngested(gameIds[i], homeScores[i], awayScores[i], sourceVersions[i]) == IngestOutcome.ACCEPTED) {
+                    accepted++;
+                }
+            }
+        } catch (RuntimeException e) {
+            throw new IngestBatchException(i, accepted, failed(e));
+        } finally {
+            if (accepted > 0) {
+                publishSnapshot();
+            }
+            metrics.recordLatency(Operation.INGEST_SCORES, startNanos);
+        }
+        return accepted;
+    }
+
+    public IngestStats getIngestStats() {
+        return new IngestStats(ingestedAccepted.sum(), ingestedStale.sum(), ingestedNotFound.sum());
+    }
+
+    /**
+     * Applies every score change in the batch and publishes a single snapshot for the whole batch.
+     * All scores are validated before any is applied; failures are reported per item.
+     */
+    public List<OperationResult<Game>> updateScores(Collection<ScoreUpdate> updates) {
+        Objects.requireNonNull(updates, "Score updates cannot be null");
+        long startNanos = metrics.startTimer();
+
+        List<OperationResult<Game>> results = new ArrayList<>(updates.size());
+        for (ScoreUpdate update : updates) {
+            try {
+                Objects.requireNonNull(update, "Score update cannot be null");
+                Score.validate(update.homeScore(), update.awayScore());
+                results.add(null);
+            } catch (NullPointerException | IllegalArgumentException e) {
+                results.add(OperationResult.failure(OperationResult.Status.INVALID_ARGUMENT, e.getMessage()));
+            }
+        }
+
+        boolean changed = false;
+        int i = 0;
+        for (ScoreUpdate update : updates) {
+            if (results.get(i) == null) {
+                Game game = applyScore(update.gameId(), update.homeScore(), update.awayScore(), true);
+                results.set(i, game == null ? notFound(update.gameId()) : OperationResult.success(game));
+                changed |= game != null;
+            }
+            i++;
+        }
+
+        if (changed) {
+            publishSnapshot();
+        }
+        return recordBatch(Operation.UPDATE_SCORES, startNanos, results);
+    }
+
+    /**
+     * Returns the live games in summary order, as the latest snapshot's
+     * {@linkplain Game#frozenCopy() frozen copies}: their scores are those of the snapshot's
+     * version, and updating them throws {@link UnsupportedOperationException}. Use the game
+     * IDs to update scores through the scoreboard.
+     */
     public List<Game> getSummary() {
-        return games.values().stream()
-                .sorted(this::compareForSummary)
-                .toList();
+        long startNanos = metrics.startTimer();
+        List<Game> summary = getSnapshot().games();
+        metrics.recordLatency(Operation.GET_SUMMARY, startNanos);
+        return summary;
+    }
+
+    /**
+     * Returns one page of the summary, in the same order as {@link #getSummary()}. Unless the
+     * latest snapshot is already built, only the games up to the end of the page are read
+     * and copied, so the cost is bounded by {@code offset + limit} rather than the board.
+     */
+    public List<Game> getSummary(int offset, int limit) {
+        long startNanos = metrics.startTimer();
+        try {
+            return page(offset, limit);
+        } catch (RuntimeException e) {
+            throw failed(e);
+        } finally {
+            metrics.recordLatency(Operation.GET_SUMMARY, startNanos);
+        }
+    }
+
+    /**
+     * Returns the {@code k} highest ranked live games, reading only the first {@code k} unless
+     * the latest snapshot is already built.
+     */
+    public List<Game> getTopGames(int k) {
+        long startNanos = metrics.startTimer();
+        try {
+            return page(0, k);
+        } catch (RuntimeException e) {
+            throw failed(e);
+        } finally {
+            metrics.recordLatency(Operation.GET_TOP_GAMES, startNanos);
+        }
+    }
+
+    /**
+     * Returns the snapshot of the latest published version; callers can compare versions to skip
+     * re-rendering. The snapshot is built by the first reader after a mutation and shared by
+     * every later reader until the next one, so writers never pay for copying the board.
+     * Exactly one reader builds each version: readers racing it wait for its snapshot rather
+     * than copying the board themselves.
+     */
+    public ScoreboardSnapshot getSnapshot() {
+        ScoreboardSnapshot current = snapshot.get();
+        if (current.version() >= versionGenerator.get()) {
+            return current;
+        }
+        snapshotLock.lock();
+        try {
+            current = snapshot.get();
+            // Read before copying, so the snapshot reflects at least every mutation up to its version
+            long version = versionGenerator.get();
+            if (current.version() >= version) {
+                return current;
+            }
+            current = new ScoreboardSnapshot(version, summaryIndex.frozenCopy(games::values));
+            snapshot.set(current);
+            return current;
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the latest snapshot's summary encoded in the given format. The encoding is built
+     * once, by the first request after a mutation, and shared by every later request until the
+     * next one.
+     */
+    public SummaryPayload getSummaryPayload(SummaryFormat format) {
+        Objects.requireNonNull(format, "Format cannot be null");
+        ScoreboardSnapshot current = getSnapshot();
+        SummaryPayload cached = summaryPayloads.get(format.ordinal());
+        if (cached != null && cached.version() >= current.version()) {
+            return cached;
+        }
+        summaryPayloadLock.lock();
+        try {
+            cached = summaryPayloads.get(format.ordinal());
+            if (cached != null && cached.version() >= current.version()) {
+                return cached;
+            }
+            SummaryPayload encoded = SummaryPayload.encode(current, format);
+            summaryPayloads.set(format.ordinal(), encoded);
+            return encoded;
+        } finally {
+            summaryPayloadLock.unlock();
+        }
+    }
+
+    /**
+     * Serves a page from the latest snapshot if it is already built, and otherwise copies just
+     * the page's prefix of the summary index instead of building a snapshot of the whole board.
+     * Only if concurrent moves keep disturbing the prefix is the snapshot built after all.
+     */
+    private List<Game> page(int offset, int limit) {
+        ScoreboardSnapshot.checkPage(offset, limit);
+        ScoreboardSnapshot current = snapshot.get();
+        if (current.version() >= versionGenerator.get()) {
+            return current.page(offset, limit);
+        }
+        List<Game> page = summaryIndex.frozenPage(offset, limit);
+        return page != null ? page : getSnapshot().page(offset, limit);
     }
 
     public Optional<Game> findGame(Long gameId) {
         Objects.requireNonNull(gameId, "Game ID cannot be null");
-        return Optional.ofNullable(games.get(gameId));
+        return findGame(gameId.longValue());
+    }
+
+    /**
+     * Primitive overload of {@link #findGame(Long)} that avoids boxing the ID.
+     */
+    public Optional<Game> findGame(long gameId) {
+        long startNanos = metrics.startTimer();
+        Optional<Game> game = Optional.ofNullable(games.get(gameId));
+        metrics.recordLatency(Operation.FIND_GAME, startNanos);
+        return game;
     }
 
     public boolean isTeamPlaying(String teamName) {
         Objects.requireNonNull(teamName, "Team name cannot be null");
-        return activeTeams.contains(teamName);
+        long startNanos = metrics.startTimer();
+        TeamRegistry.Team team = teams.find(teamName);
+        boolean playing = team != null && team.isPlaying();
+        metrics.recordLatency(Operation.IS_TEAM_PLAYING, startNanos);
+        return playing;
+    }
+
+    /**
+     * Returns the live game the team is playing in, looked up through the team's reservation
+     * rather than by scanning the board.
+     */
+    public Optional<Game> findGameByTeam(String teamName) {
+        Objects.requireNonNull(teamName, "Team name cannot be null");
+        TeamRegistry.Team team = teams.find(teamName);
+        long gameId = team == null ? 0 : team.getGameId();
+        return gameId == 0 ? Optional.empty() : Optional.ofNullable(games.get(gameId));
+    }
+
+    /**
+     * Returns the live games of a competition in summary order. Competitions are matched
+     * ignoring case, and the cost depends only on the number of games in the competition.
+     */
+    public List<Game> getSummaryByCompetition(String competition) {
+        Objects.requireNonNull(competition, "Competition cannot be null");
+        Set<Game> members = gamesByCompetition.get(Game.canonicalName(competition));
+        if (members == null) {
+            return List.of();
+        }
+        return SummaryIndex.sortedCopy(members);
     }
 
     public Set<String> getActiveTeams() {
-        return Set.copyOf(activeTeams);
+        return teams.getActiveTeamNames();
     }
 
+    /**
+     * Returns every live game in summary order, the same frozen copies as {@link #getSummary()}.
+     */
     public List<Game> getAllGames() {
-        return List.copyOf(games.values());
+        return getSnapshot().games();
     }
 
     public int getGameCount() {
         return games.size();
     }
 
-    private int compareForSummary(Game g1, Game g2) {
-        int totalScoreCompare = Integer.compare(g2.getTotalScore(), g1.getTotalScore());
-        if (totalScoreCompare != 0) {
-            return totalScoreCompare;
+    /**
+     * Returns the live games in summary order, read from the games map rather than the last
+     * published snapshot or the weakly consistent summary index. A start is in the map, a finish
+     * out of it and a score set before the change's event sequence is assigned, so the result
+     * reflects at least every change up to a {@link #getLastEventSequence()} read beforehand.
+     * It can also reflect some later changes, whose events then re-apply idempotently.
+     */
+    public List<Game> getLiveGames() {
+        return SummaryIndex.sortedCopy(games.values());
+    }
+
+    /**
+     * Returns the sequence number of the most recent change event, whether or not anyone subscribed.
+     */
+    public long getLastEventSequence() {
+        return eventSequence.get();
+    }
+
+    /**
+     * Applies a change made on another scoreboard, keeping its game ID and start sequence,
+     * e.g. on a replica following a primary. The change is journaled and published here as
+     * a local change with a local event sequence.
+     * <p>
+     * Like journal replay this is idempotent: a start for a game that is already live or whose
+     * team is still playing here, and a change to an unknown game, are skipped. Re-applying
+     * an overlapping stream of changes on top of a newer state therefore converges.
+     *
+     * @return {@code true} if the change was applied
+     */
+    public boolean applyReplicated(ScoreboardEvent event) {
+        Objects.requireNonNull(event, "Event cannot be null");
+        boolean applied = switch (event) {
+            case ScoreboardEvent.GameStarted started -> {
+                idGenerator.accumulateAndGet(started.gameId() + 1, Math::max);
+                startSequenceGenerator.accumulateAndGet(started.startSequence(), Math::max);
+                if (games.get(started.gameId()) != null) {
+                    yield false;
+                }
+                try {
+                    register(new Game(started.gameId(), started.homeTeam(), started.awayTeam(),
+                            started.startTime(), started.startSequence(), started.competition()), true);
+                    yield true;
+                } catch (TeamAlreadyPlayingException e) {
+                    yield false;
+                }
+            }
+            case ScoreboardEvent.ScoreUpdated updated -> {
+                Score.validate(updated.homeScore(), updated.awayScore());
+                yield applyScore(updated.gameId(), updated.homeScore(), updated.awayScore(),
+                        updated.sourceVersion(), true) != null;
+            }
+            case ScoreboardEvent.GameFinished finished ->
+                    unregister(finished.gameId(), true, finished.finishTime()) != null;
+        };
+
+        if (applied) {
+            publishSnapshot();
+        }
+        return applied;
+    }
+
+    /**
+     * Subscribes to start, score and finish events with the default bounded buffer,
+     * which drops the oldest event rather than stall the scoreboard.
+     */
+    public void subscribe(Flow.Subscriber<? super ScoreboardEvent> subscriber) {
+        events.subscribe(subscriber);
+    }
+
+    public void subscribe(Flow.Subscriber<? super ScoreboardEvent> subscriber, int bufferSize, BackpressurePolicy policy) {
+        events.subscribe(subscriber, bufferSize, policy);
+    }
+
+    public Flow.Publisher<ScoreboardEvent> getEventPublisher() {
+        return events;
+    }
+
+    /**
+     * Snapshots the current state to disk and truncates the journal behind it.
+     *
+     * @throws IllegalStateException if the scoreboard was created without a journal
+     */
+    public void checkpoint() throws IOException {
+        if (journal == null) {
+            throw new IllegalStateException("Scoreboard has no journal to checkpoint");
+        }
+        journal.checkpoint();
+    }
+
+    /**
+     * Captures the state for a journal checkpoint from the games map rather than the summary
+     * index, whose traversal can see a game being repositioned by a concurrent update at both
+     * positions. Called after the journal segment is retired: every retired start is already in
+     * games, every retired finish already removed, and every retired score already set.
+     */
+    private SnapshotContents checkpointContents() {
+        List<Game> live = games.values();
+        live.sort(Comparator.comparingLong(Game::getStartSequence));
+        // Read after the games, so it is past the ID of every game in the snapshot
+        return new SnapshotContents(idGenerator.get(), live);
+    }
+
+    /**
+     * Validates a new game and assigns its start sequence.
+     */
+    private Game newGame(long gameId, String homeTeam, String awayTeam, String competition) {
+        return new Game(gameId, homeTeam, awayTeam, Instant.now(), startSequenceGenerator.incrementAndGet(), competition);
+    }
+
+    /**
+     * Reserves both teams and makes the game visible, without publishing a snapshot.
+     *
+     * @param record whether to journal and publish the start; {@code false} when restoring
+     */
+    private void register(Game game, boolean record) {
+        long gameId = game.getId();
+        String normalizedHome = game.getHomeTeam();
+        String normalizedAway = game.getAwayTeam();
+
+        TeamRegistry.Team home = teams.intern(normalizedHome);
+        TeamRegistry.Team away = teams.intern(normalizedAway);
+
+        // Each reservation is a single CAS on the team's slot; the home slot is rolled back if the away one is taken
+        if (!home.reserve(gameId)) {
+            throw TeamAlreadyPlayingException.stackless(normalizedHome);
+        }
+
+        if (!away.reserve(gameId)) {
+            home.release(gameId);
+            throw TeamAlreadyPlayingException.stackless(normalizedAway);
+        }
+
+        // Indexed and recorded while its stripe is still locked, so no update can precede the
+        // start and a checkpoint that finds the game in games also finds its start recorded
+        Game existing;
+        try {
+            existing = games.putIfAbsent(gameId, game, added -> {
+                summaryIndex.add(added);
+                indexCompetition(added);
+                if (record) {
+                    recordGameStarted(added);
+                }
+            });
+        } catch (RuntimeException e) {
+            summaryIndex.remove(game);
+            unindexCompetition(game);
+            home.release(gameId);
+            away.release(gameId);
+            throw e;
+        }
+        if (existing != null) {
+            home.release(gameId);
+            away.release(gameId);
+            throw new IllegalStateException("Game ID collision detected: " + gameId);
+        }
+    }
+
+    /**
+     * Removes a game and releases its teams, without publishing a snapshot.
+     *
+     * @param finishTime when the game finished, published with the finish if it is recorded
+     * @return the removed game, or {@code null} if it was not live
+     */
+    private Game unregister(long gameId, boolean record, Instant finishTime) {
+        Game game = games.get(gameId);
+
+        // remove(id, game) waits for any in-flight score update on the same game
+        if (game != null && games.remove(gameId, game)) {
+            // Removed from games before journaling, so a checkpoint never captures a journaled finish;
+            // recorded before the teams are released, so it precedes any game reusing them
+            summaryIndex.remove(game);
+            unindexCompetition(game);
+            if (record) {
+                recordGameFinished(gameId, finishTime);
+            }
+            teams.intern(game.getHomeTeam()).release(gameId);
+            teams.intern(game.getAwayTeam()).release(gameId);
+            return game;
+        }
+
+        return null;
+    }
+
+    /**
+     * Applies a feed score if its version is newer than the game's, without publishing a snapshot.
+     * Stale versions are rejected on a lock-free read and checked again under the game's lock.
+     */
+    private IngestOutcome applyIngested(long gameId, int homeScore, int awayScore, long sourceVersion) {
+        Game game = games.get(gameId);
+        if (game == null) {
+            ingestedNotFound.increment();
+            return IngestOutcome.GAME_NOT_FOUND;
+        }
+        if (sourceVersion <= game.getSourceVersion()) {
+            ingestedStale.increment();
+            return IngestOutcome.STALE;
+        }
+
+        boolean[] accepted = new boolean[1];
+        Game updated = games.updateIfPresent(gameId, existingGame -> {
+            int previousTotalScore = existingGame.getTotalScore();
+            if (existingGame.updateScore(homeScore, awayScore, sourceVersion)) {
+                summaryIndex.reposition(existingGame, previousTotalScore);
+                recordScoreUpdated(gameId, homeScore, awayScore, sourceVersion);
+                accepted[0] = true;
+            }
+        });
+        if (updated == null) {
+            ingestedNotFound.increment();
+            return IngestOutcome.GAME_NOT_FOUND;
+        }
+        if (!accepted[0]) {
+            ingestedStale.increment();
+            return IngestOutcome.STALE;
+        }
+        ingestedAccepted.increment();
+        return IngestOutcome.ACCEPTED;
+    }
+
+    /**
+     * Sets an already validated score, without publishing a snapshot.
+     *
+     * @return the updated game, or {@code null} if it was not live
+     */
+    private Game applyScore(long gameId, int homeScore, int awayScore, boolean record) {
+        return games.updateIfPresent(gameId, homeScore, awayScore, record ? recordedScoreAction : replayedScoreAction);
+    }
+
+    private void setScore(Game game, int homeScore, int awayScore, boolean record) {
+        int previousTotalScore = game.getTotalScore();
+        game.updateScore(homeScore, awayScore);
+        summaryIndex.reposition(game, previousTotalScore);
+        if (record) {
+            recordScoreUpdated(game.getId(), homeScore, awayScore, Long.MIN_VALUE);
+        }
+    }
+
+    /**
+     * Sets an already validated, journaled or replicated score. A score ingested from a feed is
+     * applied only if its source version is newer than the game's, so duplicates and stale
+     * versions stay rejected after a restart and on replicas.
+     *
+     * @return the game, or {@code null} if it was not live
+     */
+    private Game applyScore(long gameId, int homeScore, int awayScore, long sourceVersion, boolean record) {
+        if (sourceVersion == Long.MIN_VALUE) {
+            return applyScore(gameId, homeScore, awayScore, record);
+        }
+        return games.updateIfPresent(gameId, game -> {
+            int previousTotalScore = game.getTotalScore();
+            if (game.updateScore(homeScore, awayScore, sourceVersion)) {
+                summaryIndex.reposition(game, previousTotalScore);
+                if (record) {
+                    recordScoreUpdated(gameId, homeScore, awayScore, sourceVersion);
+                }
+            }
+        });
+    }
+
+    /*
+     * Recording runs inside each game's critical section, so journal records, event sequence
+     * numbers and queued events for the same game are always in mutation order. The events
+     * are only handed to subscribers by deliverEvents, after the critical section.
+     */
+
+    private void recordGameStarted(Game game) {
+        if (journal != null) {
+            journal.appendGameStarted(game.getId(), game.getHomeTeam(), game.getAwayTeam(),
+                    game.getStartTime(), game.getStartSequence(), game.getCompetition().orElse(null));
+        }
+        long sequence = eventSequence.incrementAndGet();
+        if (events.hasSubscribers()) {
+            pendingEvents.add(new ScoreboardEvent.GameStarted(sequence, game.getId(), game.getHomeTeam(),
+                    game.getAwayTeam(), game.getStartTime(), game.getStartSequence(), game.getCompetition().orElse(null)));
+        }
+    }
+
+    private void recordScoreUpdated(long gameId, int homeScore, int awayScore, long sourceVersion) {
+        if (journal != null) {
+            journal.appendScoreUpdated(gameId, homeScore, awayScore, sourceVersion);
+        }
+        long sequence = eventSequence.incrementAndGet();
+        if (events.hasSubscribers()) {
+            pendingEvents.add(new ScoreboardEvent.ScoreUpdated(sequence, gameId, homeScore, awayScore, sourceVersion));
+        }
+    }
+
+    private void recordGameFinished(long gameId, Instant finishTime) {
+        if (journal != null) {
+            journal.appendGameFinished(gameId);
+        }
+        long sequence = eventSequence.incrementAndGet();
+        if (events.hasSubscribers()) {
+            pendingEvents.add(new ScoreboardEvent.GameFinished(sequence, gameId, finishTime));
+        }
+    }
+
+    /**
+     * Counts a failed operation by type before it is rethrown.
+     */
+    private RuntimeException failed(RuntimeException e) {
+        if (e instanceof TeamAlreadyPlayingException) {
+            metrics.recordFailure(Failure.TEAM_ALREADY_PLAYING);
+        } else if (e instanceof GameNotFoundException) {
+            metrics.recordFailure(Failure.GAME_NOT_FOUND);
+        } else if (e instanceof IllegalArgumentException || e instanceof NullPointerException) {
+            metrics.recordFailure(Failure.INVALID_ARGUMENT);
+        }
+        return e;
+    }
+
+    /**
+     * Counts the failed items of a batch and records the batch latency.
+     */
+    private List<OperationResult<Game>> recordBatch(Operation operation, long startNanos, List<OperationResult<Game>> results) {
+        if (metrics.isEnabled()) {
+            for (OperationResult<Game> result : results) {
+                switch (result.status()) {
+                    case TEAM_ALREADY_PLAYING -> metrics.recordFailure(Failure.TEAM_ALREADY_PLAYING);
+                    case GAME_NOT_FOUND -> metrics.recordFailure(Failure.GAME_NOT_FOUND);
+                    case INVALID_ARGUMENT -> metrics.recordFailure(Failure.INVALID_ARGUMENT);
+                    case SUCCESS -> { }
+                }
+            }
+            metrics.recordLatency(operation, startNanos);
+        }
+        return results;
+    }
+
+    static OperationResult<Game> notFound(long gameId) {
+        return OperationResult.failure(OperationResult.Status.GAME_NOT_FOUND,
+                GameNotFoundException.message(gameId));
+    }
+
+    /*
+     * Competition sets are changed inside compute, so a set emptied and dropped by a
+     * concurrent finish is never added to afterwards.
+     */
+
+    private void indexCompetition(Game game) {
+        game.getCompetition().ifPresent(competition -> gamesByCompetition
+                .compute(Game.canonicalName(competition), (key, members) -> {
+                    Set<Game> updated = members == null ? ConcurrentHashMap.newKeySet() : members;
+                    updated.add(game);
+                    return updated;
+                }));
+    }
+
+    private void unindexCompetition(Game game) {
+        game.getCompetition().ifPresent(competition -> gamesByCompetition
+                .computeIfPresent(Game.canonicalName(competition), (key, members) -> {
+                    members.remove(game);
+                    return members.isEmpty() ? null : members;
+                }));
+    }
+
+    /**
+     * Publishes a new snapshot version covering every mutation completed so far, then delivers
+     * their events. Only the version is bumped here; {@link #getSnapshot()} copies the board
+     * once for the next reader.
+     */
+    private void publishSnapshot() {
+        versionGenerator.incrementAndGet();
+        deliverEvents();
+    }
+
+    /**
+     * Hands queued events to the subscribers outside every game lock, so a {@link BackpressurePolicy#BLOCK}
+     * subscriber stalls at most the delivering thread and never readers or writers of its games.
+     * One thread delivers at a time, in queue order; the others leave their events to it.
+     */
+    private void deliverEvents() {
+        // Re-checked after unlocking: an event queued while the lock was held may have found it taken
+        while (!pendingEvents.isEmpty() && deliveryLock.tryLock()) {
+            try {
+                ScoreboardEvent event;
+                while ((event = pendingEvents.poll()) != null) {
+                    events.publish(event);
+                }
+            } finally {
+                deliveryLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Applies replayed journal records without journaling them again.
+     * Records are idempotent, so a start for a known game or a change to an unknown one is skipped.
+     * A start whose team is already playing is skipped too: the snapshot can run ahead of the
+     * records after it, e.g. hold a later game of a team whose earlier game is replayed next.
+     */
+    private final class JournalRestorer implements JournalReplayHandler {
+
+        @Override
+        public void onNextGameId(long nextGameId) {
+            idGenerator.accumulateAndGet(nextGameId, Math::max);
+        }
+
+        @Override
+        public void onGameStarted(long gameId, String homeTeam, String awayTeam, Instant startTime, long startSequence,
+                                  String competition) {
+            idGenerator.accumulateAndGet(gameId + 1, Math::max);
+            startSequenceGenerator.accumulateAndGet(startSequence, Math::max);
+            if (games.get(gameId) == null) {
+                try {
+                    register(new Game(gameId, homeTeam, awayTeam, startTime, startSequence, competition), false);
+                } catch (TeamAlreadyPlayingException e) {
+                    // Superseded by a later game in the snapshot; its records are skipped as unknown
+                }
+            }
+        }
+
+        @Override
+        public void onScoreUpdated(long gameId, int homeScore, int awayScore, long sourceVersion) {
+            Score.validate(homeScore, awayScore);
+            applyScore(gameId, homeScore, awayScore, sourceVersion, false);
+        }
+
+        @Override
+        public void onGameFinished(long gameId) {
+            unregister(gameId, false, null);
         }
-        return g2.getStartTime().compareTo(g1.getStartTime());
     }
 }
@@ -0,0 +1,227 @@
+package com.scoreboard;
+
+import com.scoreboard.model.Score;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Feeds scores from many producer threads into a {@link Scoreboard} through a fixed set of
+ * single-writer lanes.
+ * <p>
+ * Each game is routed by ID to one lane, a bounded lock-free ring buffer drained by its own
+ * thread. The lane applies what it drains as one batch through
+ * {@link Scoreboard#ingestScore(long, int, int, long) version-aware ingestion} and publishes
+ * one snapshot per batch. Scores for a game are applied in the order they were queued, only
+ * one thread writes each game, and producers never wait on a game's lock or on each other
+ * unless a lane is full.
+ * <p>
+ * Invalid scores are rejected on submit. Scores submitted concurrently with {@link #close()}
+ * may be dropped.
+ */
+public final class ScoreboardIngestor implements AutoCloseable {
+    /**
+     * Spins a blocked producer does before it starts parking between retries.
+     */
+    private static final int BLOCKED_SPINS = 100;
+    private static final long BLOCKED_PARK_NANOS = 50_000;
+
+    /**
+     * What {@link #submit(long, int, int, long)} does when the game's lane is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Returns {@code false} at once and counts the score as rejected. Producers never stall.
+         */
+        REJECT,
+
+        /**
+         * Waits until the lane has room. Lossless, but producers run at the pace of the slowest lane.
+         */
+        BLOCK
+    }
+
+    private final Scoreboard scoreboard;
+    private final IngestorConfig config;
+    private final Lane[] lanes;
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private volatile boolean closed;
+
+    private ScoreboardIngestor(Scoreboard scoreboard, IngestorConfig config) {
+        this.scoreboard = scoreboard;
+        this.config = config;
+        this.lanes = new Lane[config.laneCount()];
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = new Lane(i);
+        }
+        for (Lane lane : lanes) {
+            lane.thread.start();
+        }
+    }
+
+    public static ScoreboardIngestor start(Scoreboard scoreboard) {
+        return start(scoreboard, IngestorConfig.defaults());
+    }
+
+    public static ScoreboardIngestor start(Scoreboard scoreboard, IngestorConfig config) {
+        Objects.requireNonNull(scoreboard, "Scoreboard cannot be null");
+        Objects.requireNonNull(config, "Ingestor config cannot be null");
+        return new ScoreboardIngestor(scoreboard, config);
+    }
+
+    /**
+     * Queues a feed score on the game's lane.
+     *
+     * @return {@code false} if the lane was full and the policy is {@link OverflowPolicy#REJECT}
+     * @throws IllegalArgumentException if the score is invalid
+     * @throws IllegalStateException    if the ingestor is closed
+     */
+    public boolean submit(long gameId, int homeScore, int awayScore, long sourceVersion) {
+        Score.validate(homeScore, awayScore);
+        if (closed) {
+            throw new IllegalStateException("Ingestor is closed");
+        }
+        Lane lane = laneFor(gameId);
+        int attempts = 0;
+        while (!lane.buffer.offer(gameId, homeScore, awayScore, sourceVersion)) {
+            if (config.overflowPolicy() == OverflowPolicy.REJECT) {
+                rejected.increment();
+                return false;
+            }
+            if (closed) {
+                throw new IllegalStateException("Ingestor is closed");
+            }
+            if (++attempts < BLOCKED_SPINS) {
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(BLOCKED_PARK_NANOS);
+            }
+        }
+        submitted.increment();
+        lane.wake();
+        return true;
+    }
+
+    public IngestorConfig getConfig() {
+        return config;
+    }
+
+    public IngestorStats getStats() {
+        long processed = 0;
+        long accepted = 0;
+        long batches = 0;
+        long failed = 0;
+        long queued = 0;
+        for (Lane lane : lanes) {
+            processed += lane.processed;
+            accepted += lane.accepted;
+            batches += lane.batches;
+            failed += lane.failed;
+            queued += lane.buffer.size();
+        }
+        return new IngestorStats(submitted.sum(), rejected.sum(), processed, accepted, batches, failed, queued);
+    }
+
+    /**
+     * Stops accepting scores, applies everything already queued and stops the lane threads.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        boolean interrupted = false;
+        for (Lane lane : lanes) {
+            LockSupport.unpark(lane.thread);
+            while (lane.thread.isAlive()) {
+                try {
+                    lane.thread.join();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Lane laneFor(long gameId) {
+        return lanes[(int) Math.floorMod(LongGameMap.mix(gameId), (long) lanes.length)];
+    }
+
+    /**
+     * A ring buffer and the only thread that drains it. Counters are written by that thread alone.
+     */
+    private final class Lane {
+        private final FeedRingBuffer buffer = new FeedRingBuffer(config.queueDepth());
+        private final long[] gameIds = new long[config.batchSize()];
+        private final int[] homeScores = new int[config.batchSize()];
+        private final int[] awayScores = new int[config.batchSize()];
+        private final long[] sourceVersions = new long[config.batchSize()];
+        private final Thread thread;
+        private volatile boolean idle;
+        private volatile long processed;
+        private volatile long accepted;
+        private volatile long batches;
+        private volatile long failed;
+
+        Lane(int index) {
+            this.thread = Thread.ofPlatform()
+                    .name("scoreboard-ingest-" + index)
+                    .daemon()
+                    .unstarted(this::run);
+        }
+
+        /**
+         * Unparks the lane if it is idle. The lane publishes {@code idle} before its last
+         * emptiness check and producers read it after advancing the tail, so a queued score
+         * is never left behind by a parked lane.
+         */
+        void wake() {
+            if (idle) {
+                LockSupport.unpark(thread);
+            }
+        }
+
+        private void run() {
+            while (true) {
+                int count = buffer.drainTo(gameIds, homeScores, awayScores, sourceVersions, gameIds.length);
+                if (count > 0) {
+                    apply(count);
+                } else if (closed) {
+                    if (buffer.isEmpty()) {
+                        return;
+                    }
+                    // A producer has claimed a slot but not yet published it
+                    Thread.onSpinWait();
+                } else {
+                    idle = true;
+                    if (buffer.isEmpty() && !closed) {
+                        LockSupport.park(this);
+                    }
+                    idle = false;
+                }
+            }
+        }
+
+        private void apply(int count) {
+            int from = 0;
+            while (from < count) {
+                try {
+                    accepted += scoreboard.ingestScores(gameIds, homeScores, awayScores, sourceVersions, from, count);
+                    processed += count - from;
+                    from = count;
+                } catch (IngestBatchException e) {
+                    // The lane must outlive a failing score: the scores before it were applied and
+                    // published, only it is counted as failed, and the rest of the batch is retried
+                    accepted += e.getAccepted();
+                    processed += e.getFailedIndex() - from;
+                    failed++;
+                    from = e.getFailedIndex() + 1;
+                }
+            }
+            batches++;
+        }
+    }
+}
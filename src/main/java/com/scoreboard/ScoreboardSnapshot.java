@@ -0,0 +1,63 @@
+package com.scoreboard;
+
+import com.scoreboard.model.Game;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Immutable point-in-time view of the live games; every mutation publishes a new version.
+ * <p>
+ * Versions increase monotonically, so a reader holding a snapshot can skip re-rendering
+ * while {@link Scoreboard#getSnapshot()} still reports the same version. The games are
+ * {@linkplain Game#frozenCopy() frozen copies}, so their scores stay those of this version
+ * and reflect at least every mutation published up to it. Every game live at that version
+ * is included exactly once, even if a concurrent update was moving it while the snapshot
+ * was built.
+ *
+ * @param version monotonically increasing publication number, {@code 0} for the empty board
+ * @param games   frozen copies of the live games in summary order
+ */
+public record ScoreboardSnapshot(long version, List<Game> games) {
+
+    static final ScoreboardSnapshot EMPTY = new ScoreboardSnapshot(0, List.of());
+
+    public ScoreboardSnapshot {
+        games = List.copyOf(Objects.requireNonNull(games, "Games cannot be null"));
+    }
+
+    public int size() {
+        return games.size();
+    }
+
+    /**
+     * Returns at most {@code k} games from the top of the summary without copying the rest.
+     */
+    public List<Game> top(int k) {
+        return page(0, k);
+    }
+
+    /**
+     * Returns up to {@code limit} games starting at summary position {@code offset}.
+     * The result is a view of this snapshot, so the work is bounded by the page, not the board.
+     */
+    public List<Game> page(int offset, int limit) {
+        checkPage(offset, limit);
+        int from = Math.min(offset, games.size());
+        int to = (int) Math.min((long) from + limit, games.size());
+        return games.subList(from, to);
+    }
+
+    static void checkPage(int offset, int limit) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("Offset cannot be negative (got: " + offset + ")");
+        }
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit cannot be negative (got: " + limit + ")");
+        }
+    }
+
+    boolean isNewerThan(ScoreboardSnapshot other) {
+        return version > other.version;
+    }
+}
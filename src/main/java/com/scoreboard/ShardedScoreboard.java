@@ -0,0 +1,205 @@
+package com.scoreboard;
+
+import com.scoreboard.metrics.ScoreboardMetrics;
+import com.scoreboard.model.Game;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Scoreboard partitioned into independent {@link Scoreboard} shards by game ID, so writers
+ * to different shards never touch the same maps, index or snapshot.
+ * <p>
+ * The shards share one team registry, so a team can still only play in one game across
+ * the whole board, and one ID and start-sequence generator, so IDs are unique and summary
+ * ties break the same way as on a single scoreboard. Summaries are built by merging the
+ * shards' sorted snapshots pairwise, on a dedicated fork-join pool for large boards. Snapshot
+ * games are frozen copies, so the merge ranks every game by the score it had when its shard's
+ * snapshot was taken and never by a score that changes during the merge. Each shard snapshot
+ * is consistent on its own, but the merged view is not one atomic cut across shards.
+ * <p>
+ * Offers the core operations of {@link Scoreboard}; batches, journaling and change events
+ * are per shard and not exposed here.
+ */
+public final class ShardedScoreboard {
+    /**
+     * Below this many games a merge runs on the calling thread without forking.
+     */
+    private static final int SEQUENTIAL_MERGE_THRESHOLD = 8_192;
+
+    private final Scoreboard[] shards;
+    private final TeamRegistry teams = new TeamRegistry();
+    private final AtomicLong idGenerator = new AtomicLong(1);
+    private final ForkJoinPool mergePool;
+
+    public ShardedScoreboard(int shardCount) {
+        this(shardCount, ForkJoinPool.commonPool());
+    }
+
+    public ShardedScoreboard(int shardCount, ForkJoinPool mergePool) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Shard count must be positive (got: " + shardCount + ")");
+        }
+        this.mergePool = Objects.requireNonNull(mergePool, "Merge pool cannot be null");
+        AtomicLong startSequenceGenerator = new AtomicLong();
+        shards = new Scoreboard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Scoreboard(teams, idGenerator, startSequenceGenerator, ScoreboardMetrics.NOOP);
+        }
+    }
+
+    /**
+     * @throws TeamAlreadyPlayingException if either team is playing in any shard
+     */
+    public Game startGame(String homeTeam, String awayTeam) {
+        long gameId = idGenerator.getAndIncrement();
+        return shardFor(gameId).startGame(gameId, homeTeam, awayTeam, null);
+    }
+
+    public void updateScore(long gameId, int homeScore, int awayScore) {
+        shardFor(gameId).updateScore(gameId, homeScore, awayScore);
+    }
+
+    public boolean finishGame(long gameId) {
+        return shardFor(gameId).finishGame(gameId);
+    }
+
+    public Optional<Game> findGame(long gameId) {
+        return shardFor(gameId).findGame(gameId);
+    }
+
+    public List<Game> getSummary() {
+        return merge(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns up to {@code limit} games starting at summary position {@code offset};
+     * only the first {@code offset + limit} games of each shard are merged.
+     */
+    public List<Game> getSummary(int offset, int limit) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("Offset cannot be negative (got: " + offset + ")");
+        }
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit cannot be negative (got: " + limit + ")");
+        }
+        List<Game> top = merge((int) Math.min((long) offset + limit, Integer.MAX_VALUE));
+        return top.subList(Math.min(offset, top.size()), top.size());
+    }
+
+    public List<Game> getTopGames(int k) {
+        return getSummary(0, k);
+    }
+
+    public boolean isTeamPlaying(String teamName) {
+        Objects.requireNonNull(teamName, "Team name cannot be null");
+        TeamRegistry.Team team = teams.find(teamName);
+        return team != null && team.isPlaying();
+    }
+
+    public Set<String> getActiveTeams() {
+        return teams.getActiveTeamNames();
+    }
+
+    public int getGameCount() {
+        int count = 0;
+        for (Scoreboard shard : shards) {
+            count += shard.getGameCount();
+        }
+        return count;
+    }
+
+    public int getShardCount() {
+        return shards.length;
+    }
+
+    private Scoreboard shardFor(long gameId) {
+        return shards[(int) Math.floorMod(LongGameMap.mix(gameId), (long) shards.length)];
+    }
+
+    /**
+     * Merges the first {@code limit} games of every shard's snapshot into summary order.
+     */
+    private List<Game> merge(int limit) {
+        List<List<Game>> views = new ArrayList<>(shards.length);
+        long total = 0;
+        for (Scoreboard shard : shards) {
+            List<Game> view = shard.getSnapshot().top(limit);
+            views.add(view);
+            total += view.size();
+        }
+        List<Game> merged = total <= SEQUENTIAL_MERGE_THRESHOLD
+                ? mergeRange(views, 0, views.size(), limit)
+                : mergePool.invoke(new MergeTask(views, 0, views.size(), limit));
+        return List.copyOf(merged);
+    }
+
+    /**
+     * Merges a range of sorted views pairwise on the calling thread.
+     */
+    private static List<Game> mergeRange(List<List<Game>> views, int from, int to, int limit) {
+        if (to - from == 1) {
+            return views.get(from);
+        }
+        int middle = (from + to) >>> 1;
+        return mergeTwo(mergeRange(views, from, middle, limit), mergeRange(views, middle, to, limit), limit);
+    }
+
+    /**
+     * Merges two lists of frozen snapshot games; their scores, and so the sort key
+     * (total, start sequence, ID), are fixed, so the result is sorted like its inputs.
+     */
+    private static List<Game> mergeTwo(List<Game> first, List<Game> second, int limit) {
+        int size = (int) Math.min((long) first.size() + second.size(), limit);
+        Game[] merged = new Game[size];
+        int i = 0;
+        int j = 0;
+        for (int k = 0; k < size; k++) {
+            if (j == second.size() || (i < first.size() && SummaryIndex.compare(first.get(i), second.get(j)) <= 0)) {
+                merged[k] = first.get(i++);
+            } else {
+                merged[k] = second.get(j++);
+            }
+        }
+        return Arrays.asList(merged);
+    }
+
+    /**
+     * Merges a range of sorted views by splitting it in half, merging the halves in parallel
+     * and then merging the two results, so {@code k} views take {@code log k} rounds.
+     * Only ever invoked on the merge pool, so its forks stay there.
+     */
+    private static final class MergeTask extends RecursiveTask<List<Game>> {
+        private final List<List<Game>> views;
+        private final int from;
+        private final int to;
+        private final int limit;
+
+        MergeTask(List<List<Game>> views, int from, int to, int limit) {
+            this.views = views;
+            this.from = from;
+            this.to = to;
+            this.limit = limit;
+        }
+
+        @Override
+        protected List<Game> compute() {
+            if (to - from == 1) {
+                return views.get(from);
+            }
+            int middle = (from + to) >>> 1;
+            MergeTask left = new MergeTask(views, from, middle, limit);
+            MergeTask right = new MergeTask(views, middle, to, limit);
+            left.fork();
+            List<Game> rightResult = right.compute();
+            return mergeTwo(left.join(), rightResult, limit);
+        }
+    }
+}
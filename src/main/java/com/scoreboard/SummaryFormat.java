@@ -0,0 +1,171 @@
+package com.scoreboard;
+
+import com.scoreboard.model.Game;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Encodings of the summary kept ready by {@link Scoreboard#getSummaryPayload(SummaryFormat)}.
+ * <p>
+ * Every format encodes a page as a header, the games in summary order and a footer. Games
+ * are laid out so that any run of consecutive games is one contiguous byte range, which lets
+ * a page be served as a slice of the full encoding.
+ */
+public enum SummaryFormat {
+    /**
+     * UTF-8 lines of the form {@code 1. Spain 10 - 2 Brazil}, numbered by summary position.
+     */
+    TEXT("text/plain; charset=utf-8") {
+        @Override
+        void writeGame(DataOutputStream out, int position, Game game) throws IOException {
+            out.write((position + 1 + ". " + game.getHomeTeam() + " " + game.getHomeScore() + " - "
+                    + game.getAwayScore() + " " + game.getAwayTeam() + "\n").getBytes(StandardCharsets.UTF_8));
+        }
+    },
+
+    /**
+     * A UTF-8 JSON array of objects with {@code id}, {@code homeTeam}, {@code awayTeam},
+     * {@code homeScore}, {@code awayScore}, {@code totalScore}, {@code startTime} and, for games
+     * that belong to one, {@code competition}.
+     */
+    JSON("application/json; charset=utf-8") {
+        @Override
+        void writeHeader(OutputStream out, int count) throws IOException {
+            out.write('[');
+        }
+
+        @Override
+        void writeSeparator(OutputStream out) throws IOException {
+            out.write(',');
+        }
+
+        @Override
+        void writeFooter(OutputStream out) throws IOException {
+            out.write(']');
+        }
+
+        @Override
+        void writeGame(DataOutputStream out, int position, Game game) throws IOException {
+            StringBuilder json = new StringBuilder(128).append("{\"id\":").append(game.getId()).append(",\"homeTeam\":");
+            appendJsonString(json, game.getHomeTeam()).append(",\"awayTeam\":");
+            appendJsonString(json, game.getAwayTeam())
+                    .append(",\"homeScore\":").append(game.getHomeScore())
+                    .append(",\"awayScore\":").append(game.getAwayScore())
+                    .append(",\"totalScore\":").append(game.getTotalScore())
+                    .append(",\"startTime\":\"").append(game.getStartTime()).append('"');
+            game.getCompetition().ifPresent(competition -> appendJsonString(json.append(",\"competition\":"), competition));
+            json.append('}');
+            out.write(json.toString().getBytes(StandardCharsets.UTF_8));
+        }
+    },
+
+    /**
+     * A big-endian {@code int} game count followed by one record per game:
+     * {@code long id, long startSequence, long startEpochSecond, int startNano,
+     * short homeScore, short awayScore}, then both team names in modified UTF-8 as written
+     * by {@link DataOutputStream#writeUTF}.
+     */
+    BINARY("application/octet-stream") {
+        @Override
+        void writeHeader(OutputStream out, int count) throws IOException {
+            out.write(count >>> 24);
+            out.write(count >>> 16);
+            out.write(count >>> 8);
+            out.write(count);
+        }
+
+        @Override
+        void writeGame(DataOutputStream out, int position, Game game) throws IOException {
+            out.writeLong(game.getId());
+            out.writeLong(game.getStartSequence());
+            out.writeLong(game.getStartTime().getEpochSecond());
+            out.writeInt(game.getStartTime().getNano());
+            out.writeShort(game.getHomeScore());
+            out.writeShort(game.getAwayScore());
+            out.writeUTF(game.getHomeTeam());
+            out.writeUTF(game.getAwayTeam());
+        }
+    };
+
+    private final String mediaType;
+
+    SummaryFormat(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    /**
+     * Returns the media type to label this encoding with, e.g. as an HTTP {@code Content-Type}.
+     */
+    public String mediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Encodes a single game the same way it appears in a summary payload.
+     */
+    public byte[] encode(Game game) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try {
+            writeGame(new DataOutputStream(bytes), 0, game);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    void writeHeader(OutputStream out, int count) throws IOException {
+    }
+
+    void writeSeparator(OutputStream out) throws IOException {
+    }
+
+    void writeFooter(OutputStream out) throws IOException {
+    }
+
+    /**
+     * Size in bytes of everything a page adds around its games.
+     */
+    int framingLength() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(8);
+        try {
+            writeHeader(bytes, 0);
+            writeFooter(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.size();
+    }
+
+    abstract void writeGame(DataOutputStream out, int position, Game game) throws IOException;
+
+    /**
+     * Appends {@code value} as a quoted, escaped JSON string. The single escaping routine for
+     * every JSON the scoreboard produces, including the HTTP API's events and errors.
+     */
+    public static StringBuilder appendJsonString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        return json.append('"');
+    }
+}
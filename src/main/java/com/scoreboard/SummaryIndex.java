@@ -0,0 +1,184 @@
+package com.scoreboard;
+
+import com.scoreboard.model.Game;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Concurrently maintained index of live games in summary order.
+ * <p>
+ * Games are ordered by total score (desc), then start sequence (desc), then ID (desc),
+ * all primitive comparisons, so the order is total and reading the summary is a traversal
+ * rather than a sort. A game being repositioned by an in-flight update is briefly indexed
+ * at both its old and new position. A traversal can still miss a game that moves from
+ * ahead of it to behind it, so copies are validated against the moves started and finished
+ * around the traversal, seqlock style, and retried or rebuilt from the full set of games.
+ */
+final class SummaryIndex {
+    private static final int COPY_ATTEMPTS = 3;
+
+    private final ConcurrentSkipListMap<Key, Game> entries = new ConcurrentSkipListMap<>();
+    private final AtomicLong movesStarted = new AtomicLong();
+    private final AtomicLong movesFinished = new AtomicLong();
+
+    void add(Game game) {
+        entries.put(Key.of(game, game.getTotalScore()), game);
+    }
+
+    void remove(Game game) {
+        entries.remove(Key.of(game, game.getTotalScore()));
+    }
+
+    /**
+     * Moves a game whose score has just changed from its previous position. The new position
+     * is added before the old one is removed, so concurrent traversals always find the game.
+     */
+    void reposition(Game game, int previousTotalScore) {
+        if (previousTotalScore == game.getTotalScore()) {
+            return;
+        }
+        movesStarted.incrementAndGet();
+        try {
+            add(game);
+            entries.remove(Key.of(game, previousTotalScore));
+        } finally {
+            movesFinished.incrementAndGet();
+        }
+    }
+
+    /**
+     * Copies the indexed games in summary order as {@linkplain Game#frozenCopy() frozen copies},
+     * so the result no longer changes with later updates. Each copy is ranked by the score it
+     * was copied with, so a game whose score changed mid-traversal is put back in order.
+     * <p>
+     * A traversal that overlapped a move is retried; if moves keep overlapping, the copies are
+     * sorted from {@code allGames} instead, which must hold every live game exactly once.
+     */
+    List<Game> frozenCopy(Supplier<? extends Collection<Game>> allGames) {
+        for (int attempt = 0; attempt < COPY_ATTEMPTS; attempt++) {
+            long stamp = startTraversal();
+            List<Game> copies = new ArrayList<>();
+            boolean ordered = true;
+            for (Game game : entries.values()) {
+                Game copy = game.frozenCopy();
+                if (ordered && !copies.isEmpty() && compare(copies.getLast(), copy) >= 0) {
+                    ordered = false;
+                }
+                copies.add(copy);
+            }
+            if (isStable(stamp)) {
+                if (!ordered) {
+                    copies.sort(SummaryIndex::compare);
+                }
+                return List.copyOf(copies);
+            }
+        }
+        List<Game> copies = new ArrayList<>();
+        for (Game game : allGames.get()) {
+            copies.add(game.frozenCopy());
+        }
+        copies.sort(SummaryIndex::compare);
+        return List.copyOf(copies);
+    }
+
+    /**
+     * Copies up to {@code limit} games from summary position {@code offset} as frozen copies,
+     * reading only the first {@code offset + limit} games of the index and ranking the copies
+     * by their scores. A traversal that overlapped a move is retried.
+     *
+     * @return the page, or {@code null} if moves kept overlapping
+     */
+    List<Game> frozenPage(int offset, int limit) {
+        if (limit == 0) {
+            return List.of();
+        }
+        long end = (long) offset + limit;
+        for (int attempt = 0; attempt < COPY_ATTEMPTS; attempt++) {
+            long stamp = startTraversal();
+            List<Game> prefix = new ArrayList<>();
+            for (Game game : entries.values()) {
+                if (prefix.size() >= end) {
+                    break;
+                }
+                prefix.add(game.frozenCopy());
+            }
+            if (isStable(stamp)) {
+                prefix.sort(SummaryIndex::compare);
+                int from = Math.min(offset, prefix.size());
+                int to = (int) Math.min(end, prefix.size());
+                return List.copyOf(prefix.subList(from, to));
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the number of moves started if none is in flight, or {@code -1} if one is.
+     * Finished is read first, so a move starting in between makes the counts differ.
+     */
+    private long startTraversal() {
+        long finished = movesFinished.get();
+        long started = movesStarted.get();
+        return started == finished ? started : -1;
+    }
+
+    /**
+     * Whether no move was in flight when the traversal started and none started since.
+     */
+    private boolean isStable(long stamp) {
+        return stamp >= 0 && movesStarted.get() == stamp;
+    }
+
+    /**
+     * Compares two games in summary order, by their current scores.
+     */
+    static int compare(Game first, Game second) {
+        int totalScoreCompare = Integer.compare(second.getTotalScore(), first.getTotalScore());
+        if (totalScoreCompare != 0) {
+            return totalScoreCompare;
+        }
+        int startSequenceCompare = Long.compare(second.getStartSequence(), first.getStartSequence());
+        if (startSequenceCompare != 0) {
+            return startSequenceCompare;
+        }
+        return Long.compare(second.getId(), first.getId());
+    }
+
+    /**
+     * Sorts a set of games into summary order. Each game is ranked by its total read once,
+     * so scores changing during the sort cannot break the ordering.
+     */
+    static List<Game> sortedCopy(Collection<Game> games) {
+        TreeMap<Key, Game> sorted = new TreeMap<>();
+        for (Game game : games) {
+            sorted.put(Key.of(game, game.getTotalScore()), game);
+        }
+        return List.copyOf(sorted.values());
+    }
+
+    private record Key(int totalScore, long startSequence, long id) implements Comparable<Key> {
+
+        static Key of(Game game, int totalScore) {
+            return new Key(totalScore, game.getStartSequence(), game.getId());
+        }
+
+        @Override
+        public int compareTo(Key other) {
+            int totalScoreCompare = Integer.compare(other.totalScore, totalScore);
+            if (totalScoreCompare != 0) {
+                return totalScoreCompare;
+            }
+            int startSequenceCompare = Long.compare(other.startSequence, startSequence);
+            if (startSequenceCompare != 0) {
+                return startSequenceCompare;
+            }
+            return Long.compare(other.id, id);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.scoreboard;
+
+import com.scoreboard.model.Game;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The summary of one {@link ScoreboardSnapshot} encoded in one {@link SummaryFormat}.
+ * <p>
+ * Payloads are immutable and cached by the scoreboard until the next mutation, so repeated
+ * reads of an unchanged board share one encoding. The whole summary is available as a
+ * read-only buffer without copying, and any page can be written as a single slice of it.
+ */
+public final class SummaryPayload {
+    private final long version;
+    private final SummaryFormat format;
+    private final byte[] encoded;
+    private final int[] starts;
+    private final int[] ends;
+
+    private SummaryPayload(long version, SummaryFormat format, byte[] encoded, int[] starts, int[] ends) {
+        this.version = version;
+        this.format = format;
+        this.encoded = encoded;
+        this.starts = starts;
+        this.ends = ends;
+    }
+
+    static SummaryPayload encode(ScoreboardSnapshot snapshot, SummaryFormat format) {
+        Objects.requireNonNull(format, "Format cannot be null");
+        List<Game> games = snapshot.games();
+        int[] starts = new int[games.size()];
+        int[] ends = new int[games.size()];
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + games.size() * 96);
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            format.writeHeader(out, games.size());
+            for (int i = 0; i < games.size(); i++) {
+                if (i > 0) {
+                    format.writeSeparator(out);
+                }
+                starts[i] = out.size();
+                format.writeGame(out, i, games.get(i));
+                ends[i] = out.size();
+            }
+            format.writeFooter(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new SummaryPayload(snapshot.version(), format, bytes.toByteArray(), starts, ends);
+    }
+
+    /**
+     * Returns the version of the snapshot this payload encodes.
+     */
+    public long version() {
+        return version;
+    }
+
+    public SummaryFormat format() {
+        return format;
+    }
+
+    /**
+     * Returns the number of games in the payload.
+     */
+    public int size() {
+        return starts.length;
+    }
+
+    /**
+     * Returns the whole summary as a read-only buffer over the cached bytes.
+     */
+    public ByteBuffer asByteBuffer() {
+        return ByteBuffer.wrap(encoded).asReadOnlyBuffer();
+    }
+
+    /**
+     * Returns the encoded length of the page starting at summary position {@code offset}
+     * with up to {@code limit} games.
+     */
+    public long pageLength(int offset, int limit) {
+        int from = from(offset, limit);
+        int to = to(from, limit);
+        if (from == 0 && to == size()) {
+            return encoded.length;
+        }
+        return format.framingLength() + (from == to ? 0 : ends[to - 1] - starts[from]);
+    }
+
+    /**
+     * Writes the page starting at summary position {@code offset} with up to {@code limit}
+     * games, framed like a complete payload of that many games.
+     */
+    public void writePage(OutputStream out, int offset, int limit) throws IOException {
+        int from = from(offset, limit);
+        int to = to(from, limit);
+        if (from == 0 && to == size()) {
+            out.write(encoded);
+            return;
+        }
+        format.writeHeader(out, to - from);
+        if (from < to) {
+            out.write(encoded, starts[from], ends[to - 1] - starts[from]);
+        }
+        format.writeFooter(out);
+    }
+
+    private int from(int offset, int limit) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("Offset cannot be negative (got: " + offset + ")");
+        }
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit cannot be negative (got: " + limit + ")");
+        }
+        return Math.min(offset, size());
+    }
+
+    private int to(int from, int limit) {
+        return (int) Math.min((long) from + limit, size());
+    }
+}
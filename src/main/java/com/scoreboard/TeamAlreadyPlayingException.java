@@ -3,15 +3,35 @@ package com.scoreboard;
 /**
  * Exception thrown when attempting to start a game with a team
  * that is already playing in another ongoing game.
+ * <p>
+ * The message is built only when it is read. Scoreboards throw instances without a stack
+ * trace, see {@link #stackless(String)}.
  */
 public class TeamAlreadyPlayingException extends RuntimeException {
     private final String teamName;
 
     public TeamAlreadyPlayingException(String teamName) {
-        super(String.format("Team '%s' is already playing in another ongoing game", teamName));
+        this(teamName, true);
+    }
+
+    private TeamAlreadyPlayingException(String teamName, boolean writableStackTrace) {
+        super(null, null, writableStackTrace, writableStackTrace);
         this.teamName = teamName;
     }
 
+    /**
+     * Creates an instance without a stack trace, for conflicts callers are expected to handle
+     * routinely, e.g. duplicate start requests from a feed.
+     */
+    static TeamAlreadyPlayingException stackless(String teamName) {
+        return new TeamAlreadyPlayingException(teamName, false);
+    }
+
+    @Override
+    public String getMessage() {
+        return "Team '" + teamName + "' is already playing in another ongoing game";
+    }
+
     public String getTeamName() {
         return teamName;
     }
@@ -0,0 +1,149 @@
+package com.scoreboard;
+
+import com.scoreboard.model.Game;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Interns team names into {@link Team} entries with compact integer IDs.
+ * <p>
+ * Names are canonicalised with {@link Game#canonicalName}, the same case-insensitive rule
+ * {@code Game} uses to reject identical teams, so "Spain" and "spain" are one team.
+ * Spellings interned when games start are cached, so repeated lookups of them allocate
+ * nothing. Lookups of any other spelling fold the name and are not cached, so arbitrary
+ * queries, e.g. from HTTP parameters, cannot grow the registry.
+ * Each team carries its own reservation slot, which replaces a shared set of active names.
+ */
+final class TeamRegistry {
+    private final ConcurrentHashMap<String, Team> teamsByCanonicalName = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Team> teamsBySpelling = new ConcurrentHashMap<>();
+    private final AtomicInteger idGenerator = new AtomicInteger();
+    private volatile Team[] teamsById = new Team[16];
+
+    /**
+     * Returns the team for a name, registering it on first use under the given spelling.
+     */
+    Team intern(String teamName) {
+        Team team = teamsBySpelling.get(teamName);
+        if (team == null) {
+            team = teamsByCanonicalName.computeIfAbsent(Game.canonicalName(teamName),
+                    key -> register(new Team(idGenerator.getAndIncrement(), teamName.trim())));
+            teamsBySpelling.putIfAbsent(teamName, team);
+        }
+        return team;
+    }
+
+    /**
+     * Returns the team for a name, or {@code null} if it was never registered. Unlike
+     * {@link #intern}, a spelling that is not cached yet is folded but not cached.
+     */
+    Team find(String teamName) {
+        Team team = teamsBySpelling.get(teamName);
+        return team != null ? team : teamsByCanonicalName.get(Game.canonicalName(teamName));
+    }
+
+    /**
+     * Returns the team with the given compact ID, or {@code null} if no such team is registered yet.
+     */
+    Team get(int teamId) {
+        Team[] byId = teamsById;
+        return teamId >= 0 && teamId < byId.length ? byId[teamId] : null;
+    }
+
+    Set<String> getActiveTeamNames() {
+        return teamsByCanonicalName.values().stream()
+                .filter(Team::isPlaying)
+                .map(Team::getName)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    int getActiveTeamCount() {
+        int count = 0;
+        for (Team team : teamsByCanonicalName.values()) {
+            if (team.isPlaying()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    int size() {
+        return teamsByCanonicalName.size();
+    }
+
+    int cachedSpellingCount() {
+        return teamsBySpelling.size();
+    }
+
+    private synchronized Team register(Team team) {
+        Team[] byId = teamsById;
+        if (team.getId() >= byId.length) {
+            byId = Arrays.copyOf(byId, Math.max(byId.length * 2, team.getId() + 1));
+        }
+        byId[team.getId()] = team;
+        teamsById = byId;
+        return team;
+    }
+
+    /**
+     * A registered team and its reservation slot.
+     * The slot holds the ID of the game the team is playing in, or {@code 0} when it is free.
+     */
+    static final class Team {
+        private static final VarHandle GAME_ID;
+
+        static {
+            try {
+                GAME_ID = MethodHandles.lookup().findVarHandle(Team.class, "gameId", long.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        private final int id;
+        private final String name;
+        @SuppressWarnings("unused") // accessed through GAME_ID
+        private volatile long gameId;
+
+        private Team(int id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+        int getId() {
+            return id;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        long getGameId() {
+            return gameId;
+        }
+
+        boolean isPlaying() {
+            return gameId != 0;
+        }
+
+        /**
+         * Atomically claims the team for a game; fails if any game already holds it.
+         */
+        boolean reserve(long forGameId) {
+            return GAME_ID.compareAndSet(this, 0L, forGameId);
+        }
+
+        /**
+         * Releases the team only if the given game still holds it.
+         */
+        boolean release(long fromGameId) {
+            return GAME_ID.compareAndSet(this, fromGameId, 0L);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.scoreboard.archive;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Encodes a block of results as Deflate-compressed records.
+ * <p>
+ * Each record is {@code long gameId, long startSecond, int startNano, long finishSecond,
+ * int finishNano, short homeScore, short awayScore} followed by both team names in
+ * modified UTF-8. Team names repeat across a block, which is what makes it compress well.
+ */
+final class ArchiveBlock {
+
+    private ArchiveBlock() {
+    }
+
+    static byte[] compress(List<FinishedGame> results) {
+        ByteArrayOutputStream raw = new ByteArrayOutputStream(results.size() * 64);
+        DataOutputStream out = new DataOutputStream(raw);
+        try {
+            for (FinishedGame result : results) {
+                out.writeLong(result.gameId());
+                out.writeLong(result.startTime().getEpochSecond());
+                out.writeInt(result.startTime().getNano());
+                out.writeLong(result.finishTime().getEpochSecond());
+                out.writeInt(result.finishTime().getNano());
+                out.writeShort(result.homeScore());
+                out.writeShort(result.awayScore());
+                out.writeUTF(result.homeTeam());
+                out.writeUTF(result.awayTeam());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(raw.toByteArray());
+            deflater.finish();
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(raw.size() / 2 + 16);
+            byte[] chunk = new byte[8192];
+            while (!deflater.finished()) {
+                compressed.write(chunk, 0, deflater.deflate(chunk));
+            }
+            return compressed.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    static List<FinishedGame> decompress(byte[] compressed, int count) throws IOException {
+        Inflater inflater = new Inflater();
+        ByteArrayOutputStream raw = new ByteArrayOutputStream(compressed.length * 3);
+        try {
+            inflater.setInput(compressed);
+            byte[] chunk = new byte[8192];
+            while (!inflater.finished()) {
+                int inflated = inflater.inflate(chunk);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IOException("Truncated archive block");
+                }
+                raw.write(chunk, 0, inflated);
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt archive block", e);
+        } finally {
+            inflater.end();
+        }
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(raw.toByteArray()));
+        List<FinishedGame> results = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long gameId = in.readLong();
+            Instant startTime = Instant.ofEpochSecond(in.readLong(), in.readInt());
+            Instant finishTime = Instant.ofEpochSecond(in.readLong(), in.readInt());
+            int homeScore = in.readShort();
+            int awayScore = in.readShort();
+            results.add(new FinishedGame(gameId, in.readUTF(), in.readUTF(), homeScore, awayScore, startTime, finishTime));
+        }
+        return results;
+    }
+}
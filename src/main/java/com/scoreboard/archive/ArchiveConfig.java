@@ -0,0 +1,38 @@
+package com.scoreboard.archive;
+
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * Configuration of a {@link GameArchive}.
+ *
+ * @param directory   directory holding the segment files, created if missing
+ * @param blockSize   number of results compressed together; queries decompress whole blocks
+ * @param segmentSize size in bytes after which the archive starts a new segment file
+ */
+public record ArchiveConfig(Path directory, int blockSize, long segmentSize) {
+    private static final int DEFAULT_BLOCK_SIZE = 128;
+    private static final long DEFAULT_SEGMENT_SIZE = 16L * 1024 * 1024;
+
+    public ArchiveConfig {
+        Objects.requireNonNull(directory, "Archive directory cannot be null");
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Block size must be positive (got: " + blockSize + ")");
+        }
+        if (segmentSize < 1) {
+            throw new IllegalArgumentException("Segment size must be positive (got: " + segmentSize + ")");
+        }
+    }
+
+    public static ArchiveConfig of(Path directory) {
+        return new ArchiveConfig(directory, DEFAULT_BLOCK_SIZE, DEFAULT_SEGMENT_SIZE);
+    }
+
+    public ArchiveConfig withBlockSize(int size) {
+        return new ArchiveConfig(directory, size, segmentSize);
+    }
+
+    Path segmentPath(int segment) {
+        return directory.resolve(String.format("results-%08d.arc", segment));
+    }
+}
@@ -0,0 +1,22 @@
+package com.scoreboard.archive;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Final result of a finished game as kept in the {@link GameArchive}.
+ */
+public record FinishedGame(long gameId, String homeTeam, String awayTeam, int homeScore, int awayScore,
+                           Instant startTime, Instant finishTime) {
+
+    public FinishedGame {
+        Objects.requireNonNull(homeTeam, "Home team cannot be null");
+        Objects.requireNonNull(awayTeam, "Away team cannot be null");
+        Objects.requireNonNull(startTime, "Start time cannot be null");
+        Objects.requireNonNull(finishTime, "Finish time cannot be null");
+    }
+
+    public boolean involves(String team) {
+        return homeTeam.equalsIgnoreCase(team) || awayTeam.equalsIgnoreCase(team);
+    }
+}
@@ -0,0 +1,405 @@
+package com.scoreboard.archive;
+
+import com.scoreboard.model.Game;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only, compressed on-disk archive of finished games.
+ * <p>
+ * Results are collected into blocks of {@link ArchiveConfig#blockSize()} games; a full block
+ * is Deflate-compressed and appended to the current segment file as
+ * {@code [length][game count][crc32c][compressed records]}, and a new segment is started
+ * once the current one exceeds {@link ArchiveConfig#segmentSize()}. Only a sparse index
+ * stays on the heap: the file position and finish time range of every block, and for
+ * every team the blocks it appears in. A query decompresses just the blocks the index
+ * points at, newest first, and recently used blocks are kept decompressed in a small cache.
+ * <p>
+ * Finish times are non-decreasing in archive order; a result that reports an earlier
+ * finish than its predecessor is stored with the predecessor's finish time. The index is
+ * rebuilt from the segments when the archive is opened, and a torn tail is truncated.
+ */
+public final class GameArchive implements AutoCloseable {
+    private static final int FILE_MAGIC = 0x53424152; // "SBAR"
+    private static final int FILE_FORMAT = 1;
+    private static final int FILE_HEADER_SIZE = Integer.BYTES * 2;
+    private static final int FRAME_HEADER_SIZE = Integer.BYTES * 3;
+    private static final int CACHED_BLOCKS = 256;
+
+    private final ArchiveConfig config;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<FileChannel> segments = new ArrayList<>();
+    private final List<Block> blocks = new ArrayList<>();
+    private final Map<String, BlockList> blocksByTeam = new HashMap<>();
+    private final List<FinishedGame> pending = new ArrayList<>();
+    private final Map<Integer, List<FinishedGame>> cache = new LinkedHashMap<>(CACHED_BLOCKS, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, List<FinishedGame>> eldest) {
+            return size() > CACHED_BLOCKS;
+        }
+    };
+    private Instant lastFinishTime = Instant.MIN;
+    private long archivedCount;
+    private boolean closed;
+
+    /**
+     * Location and finish time range of one compressed block.
+     */
+    private record Block(int segment, long position, int length, int count, int checksum,
+                         Instant firstFinishTime, Instant lastFinishTime) {
+    }
+
+    private GameArchive(ArchiveConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Opens the archive, rebuilding the index from its segments.
+     */
+    public static GameArchive open(ArchiveConfig config) throws IOException {
+        Objects.requireNonNull(config, "Archive config cannot be null");
+        Files.createDirectories(config.directory());
+        GameArchive archive = new GameArchive(config);
+        try {
+            int segment = 0;
+            while (Files.exists(config.segmentPath(segment))) {
+                archive.load(segment++);
+            }
+            if (segment == 0) {
+                archive.createSegment();
+            }
+            return archive;
+        } catch (IOException | RuntimeException e) {
+            archive.closeSegments();
+            throw e;
+        }
+    }
+
+    /**
+     * Adds a result. It is queryable immediately and written to disk once its block is full
+     * or on {@link #flush()}.
+     */
+    public void append(FinishedGame result) throws IOException {
+        Objects.requireNonNull(result, "Result cannot be null");
+        lock.writeLock().lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Archive is closed");
+            }
+            if (result.finishTime().isBefore(lastFinishTime)) {
+                result = new FinishedGame(result.gameId(), result.homeTeam(), result.awayTeam(),
+                        result.homeScore(), result.awayScore(), result.startTime(), lastFinishTime);
+            }
+            lastFinishTime = result.finishTime();
+            pending.add(result);
+            archivedCount++;
+            if (pending.size() >= config.blockSize()) {
+                writePending();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} of the team's most recent results, newest first.
+     */
+    public List<FinishedGame> recentResults(String team, int limit) throws IOException {
+        Objects.requireNonNull(team, "Team name cannot be null");
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit cannot be negative (got: " + limit + ")");
+        }
+        String name = team.trim();
+        List<FinishedGame> results = new ArrayList<>(Math.min(limit, 64));
+        lock.readLock().lock();
+        try {
+            collectNewestFirst(pending, name, results, limit);
+            BlockList teamBlocks = blocksByTeam.get(Game.canonicalName(name));
+            for (int i = teamBlocks == null ? -1 : teamBlocks.size - 1; i >= 0 && results.size() < limit; i--) {
+                collectNewestFirst(read(teamBlocks.blocks[i]), name, results, limit);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return results;
+    }
+
+    /**
+     * Returns the results finished in {@code [from, to)}, oldest first.
+     */
+    public List<FinishedGame> finishedBetween(Instant from, Instant to) throws IOException {
+        Objects.requireNonNull(from, "From cannot be null");
+        Objects.requireNonNull(to, "To cannot be null");
+        List<FinishedGame> results = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (int i = firstBlockEndingAtOrAfter(from); i < blocks.size(); i++) {
+                if (!blocks.get(i).firstFinishTime().isBefore(to)) {
+                    return results;
+                }
+                collectBetween(read(i), from, to, results);
+            }
+            collectBetween(pending, from, to, results);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return results;
+    }
+
+    public long getArchivedCount() {
+        lock.readLock().lock();
+        try {
+            return archivedCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public ArchiveConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Writes the partially filled block and forces the current segment to disk.
+     */
+    public void flush() throws IOException {
+        lock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            if (!pending.isEmpty()) {
+                writePending();
+            }
+            segments.getLast().force(false);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            flush();
+            closed = true;
+            closeSegments();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void writePending() throws IOException {
+        byte[] compressed = ArchiveBlock.compress(pending);
+        CRC32C crc = new CRC32C();
+        crc.update(compressed);
+
+        FileChannel segment = segments.getLast();
+        long position = segment.size();
+        if (position > FILE_HEADER_SIZE && position + FRAME_HEADER_SIZE + compressed.length > config.segmentSize()) {
+            segment.force(false);
+            segment = createSegment();
+            position = segment.size();
+        }
+        ByteBuffer frame = ByteBuffer.allocate(FRAME_HEADER_SIZE + compressed.length)
+                .putInt(compressed.length)
+                .putInt(pending.size())
+                .putInt((int) crc.getValue())
+                .put(compressed)
+                .flip();
+        while (frame.hasRemaining()) {
+            segment.write(frame, position + frame.position());
+        }
+
+        index(new Block(segments.size() - 1, position + FRAME_HEADER_SIZE, compressed.length, pending.size(),
+                (int) crc.getValue(), pending.getFirst().finishTime(), pending.getLast().finishTime()), pending);
+        synchronized (cache) {
+            cache.put(blocks.size() - 1, List.copyOf(pending));
+        }
+        pending.clear();
+    }
+
+    private void index(Block block, List<FinishedGame> results) {
+        int blockIndex = blocks.size();
+        blocks.add(block);
+        Set<String> teams = new HashSet<>();
+        for (FinishedGame result : results) {
+            teams.add(Game.canonicalName(result.homeTeam()));
+            teams.add(Game.canonicalName(result.awayTeam()));
+        }
+        for (String team : teams) {
+            blocksByTeam.computeIfAbsent(team, ignored -> new BlockList()).add(blockIndex);
+        }
+    }
+
+    private List<FinishedGame> read(int blockIndex) throws IOException {
+        synchronized (cache) {
+            List<FinishedGame> cached = cache.get(blockIndex);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        Block block = blocks.get(blockIndex);
+        List<FinishedGame> results = List.copyOf(decode(segments.get(block.segment()), block));
+        synchronized (cache) {
+            cache.put(blockIndex, results);
+        }
+        return results;
+    }
+
+    private static List<FinishedGame> decode(FileChannel channel, Block block) throws IOException {
+        ByteBuffer compressed = ByteBuffer.allocate(block.length());
+        if (!readFully(channel, compressed, block.position())) {
+            throw new IOException("Archive block extends past the end of its segment");
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(compressed.flip());
+        if ((int) crc.getValue() != block.checksum()) {
+            throw new IOException("Archive block checksum mismatch");
+        }
+        return ArchiveBlock.decompress(compressed.array(), block.count());
+    }
+
+    /**
+     * Binary search for the first block whose last finish time is not before {@code from};
+     * valid because finish times never decrease in archive order.
+     */
+    private int firstBlockEndingAtOrAfter(Instant from) {
+        int low = 0;
+        int high = blocks.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (blocks.get(middle).lastFinishTime().isBefore(from)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private void load(int segmentNumber) throws IOException {
+        FileChannel channel = FileChannel.open(config.segmentPath(segmentNumber),
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        segments.add(channel);
+        ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_SIZE);
+        if (!readFully(channel, header, 0) || header.getInt(0) != FILE_MAGIC) {
+            throw new IOException("Not a results archive segment: " + config.segmentPath(segmentNumber));
+        }
+        if (header.getInt(Integer.BYTES) != FILE_FORMAT) {
+            throw new IOException("Unsupported archive format: " + header.getInt(Integer.BYTES));
+        }
+
+        long position = FILE_HEADER_SIZE;
+        ByteBuffer frameHeader = ByteBuffer.allocate(FRAME_HEADER_SIZE);
+        while (position + FRAME_HEADER_SIZE <= channel.size()) {
+            if (!readFully(channel, frameHeader.clear(), position)) {
+                break;
+            }
+            int length = frameHeader.getInt(0);
+            int count = frameHeader.getInt(Integer.BYTES);
+            if (length < 0 || count < 1 || position + FRAME_HEADER_SIZE + length > channel.size()) {
+                break;
+            }
+            Block candidate = new Block(segmentNumber, position + FRAME_HEADER_SIZE, length, count,
+                    frameHeader.getInt(Integer.BYTES * 2), Instant.MIN, Instant.MIN);
+            List<FinishedGame> results;
+            try {
+                results = decode(channel, candidate);
+            } catch (IOException e) {
+                break;
+            }
+            index(new Block(candidate.segment(), candidate.position(), length, count, candidate.checksum(),
+                    results.getFirst().finishTime(), results.getLast().finishTime()), results);
+            archivedCount += count;
+            lastFinishTime = results.getLast().finishTime();
+            position += FRAME_HEADER_SIZE + length;
+        }
+        if (position < channel.size()) {
+            // Torn or corrupt tail from a crash mid-append
+            channel.truncate(position);
+        }
+    }
+
+    private static boolean readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private FileChannel createSegment() throws IOException {
+        FileChannel channel = FileChannel.open(config.segmentPath(segments.size()),
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_SIZE).putInt(FILE_MAGIC).putInt(FILE_FORMAT).flip();
+        while (header.hasRemaining()) {
+            channel.write(header, header.position());
+        }
+        segments.add(channel);
+        return channel;
+    }
+
+    private void closeSegments() throws IOException {
+        IOException failure = null;
+        for (FileChannel segment : segments) {
+            try {
+                segment.close();
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private static void collectNewestFirst(List<FinishedGame> block, String team, List<FinishedGame> results, int limit) {
+        for (int i = block.size() - 1; i >= 0 && results.size() < limit; i--) {
+            FinishedGame result = block.get(i);
+            if (result.involves(team)) {
+                results.add(result);
+            }
+        }
+    }
+
+    private static void collectBetween(List<FinishedGame> block, Instant from, Instant to, List<FinishedGame> results) {
+        for (FinishedGame result : block) {
+            if (!result.finishTime().isBefore(from) && result.finishTime().isBefore(to)) {
+                results.add(result);
+            }
+        }
+    }
+
+    /**
+     * Growable list of block indexes in ascending order.
+     */
+    private static final class BlockList {
+        private int[] blocks = new int[4];
+        private int size;
+
+        void add(int block) {
+            if (size == blocks.length) {
+                blocks = Arrays.copyOf(blocks, size * 2);
+            }
+            blocks[size++] = block;
+        }
+    }
+}
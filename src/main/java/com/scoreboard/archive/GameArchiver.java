@@ -0,0 +1,130 @@
+package com.scoreboard.archive;
+
+import com.scoreboard.Scoreboard;
+import com.scoreboard.event.BackpressurePolicy;
+import com.scoreboard.event.ScoreboardEvent;
+import com.scoreboard.model.Game;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Moves the final result of every game finished on a {@link Scoreboard} into a {@link GameArchive}.
+ * <p>
+ * The archiver follows the scoreboard's change events without dropping any and keeps the
+ * teams, start time and latest score of each live game, so a finish event is enough to
+ * archive the result. Its memory use is bounded by the number of live games. Finish times
+ * are the ones carried by the finish events, so a slow archive does not delay them.
+ */
+public final class GameArchiver implements Flow.Subscriber<ScoreboardEvent>, AutoCloseable {
+    public static final int DEFAULT_BUFFER_SIZE = 8_192;
+
+    private final GameArchive archive;
+    private final Map<Long, LiveGame> liveGames = new ConcurrentHashMap<>();
+    private final AtomicLong failures = new AtomicLong();
+    private volatile Flow.Subscription subscription;
+
+    private record LiveGame(String homeTeam, String awayTeam, Instant startTime, int homeScore, int awayScore) {
+
+        LiveGame withScore(int homeScore, int awayScore) {
+            return new LiveGame(homeTeam, awayTeam, startTime, homeScore, awayScore);
+        }
+    }
+
+    private GameArchiver(GameArchive archive) {
+        this.archive = archive;
+    }
+
+    /**
+     * Starts archiving every game the scoreboard finishes from now on, including games
+     * that are already live.
+     */
+    public static GameArchiver attach(Scoreboard scoreboard, GameArchive archive) {
+        Objects.requireNonNull(scoreboard, "Scoreboard cannot be null");
+        Objects.requireNonNull(archive, "Archive cannot be null");
+        GameArchiver archiver = new GameArchiver(archive);
+        scoreboard.subscribe(archiver, DEFAULT_BUFFER_SIZE, BackpressurePolicy.BLOCK);
+        // Events stay buffered until the live games are known, so none of them is missed; the live
+        // games are read from the scoreboard's game map, not its summary, so none is skipped either
+        for (Game game : scoreboard.getLiveGames()) {
+            archiver.liveGames.putIfAbsent(game.getId(), new LiveGame(game.getHomeTeam(), game.getAwayTeam(),
+                    game.getStartTime(), game.getHomeScore(), game.getAwayScore()));
+        }
+        archiver.subscription.request(Long.MAX_VALUE);
+        return archiver;
+    }
+
+    public GameArchive getArchive() {
+        return archive;
+    }
+
+    /**
+     * Returns how many results could not be written to the archive.
+     */
+    public long getFailureCount() {
+        return failures.get();
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+    }
+
+    @Override
+    public void onNext(ScoreboardEvent event) {
+        switch (event) {
+            case ScoreboardEvent.GameStarted started -> liveGames.putIfAbsent(started.gameId(),
+                    new LiveGame(started.homeTeam(), started.awayTeam(), started.startTime(), 0, 0));
+            case ScoreboardEvent.ScoreUpdated updated -> liveGames.computeIfPresent(updated.gameId(),
+                    (id, game) -> game.withScore(updated.homeScore(), updated.awayScore()));
+            case ScoreboardEvent.GameFinished finished -> {
+                LiveGame game = liveGames.remove(finished.gameId());
+                if (game != null) {
+                    archive(finished.gameId(), game, finished.finishTime());
+                }
+            }
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        flush();
+    }
+
+    @Override
+    public void onComplete() {
+        flush();
+    }
+
+    /**
+     * Stops following the scoreboard and flushes the results archived so far. Does not close
+     * the archive.
+     */
+    @Override
+    public void close() {
+        subscription.cancel();
+        flush();
+    }
+
+    private void archive(long gameId, LiveGame game, Instant finishTime) {
+        try {
+            archive.append(new FinishedGame(gameId, game.homeTeam(), game.awayTeam(),
+                    game.homeScore(), game.awayScore(), game.startTime(), finishTime));
+        } catch (IOException | IllegalStateException e) {
+            failures.incrementAndGet();
+        }
+    }
+
+    private void flush() {
+        try {
+            archive.flush();
+        } catch (IOException e) {
+            failures.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.scoreboard.event;
+
+/**
+ * How a subscription holds events its subscriber has not yet requested.
+ */
+public enum BackpressurePolicy {
+    /**
+     * Discards the oldest buffered event. Never stalls the scoreboard.
+     */
+    DROP_OLDEST,
+
+    /**
+     * Keeps only the latest pending score per game instead of a FIFO buffer, so the
+     * subscriber's backlog is bounded by the number of games rather than the number of
+     * updates. Starts and finishes are never dropped. Never stalls the scoreboard.
+     */
+    COALESCE,
+
+    /**
+     * Blocks the thread delivering events until the subscriber makes room. Lossless, but a
+     * slow subscriber holds back delivery to everyone while later events queue in memory, so
+     * use it only for consumers that must see every event. Delivery runs after the scoreboard
+     * releases its locks, so the subscriber may call back into the scoreboard.
+     */
+    BLOCK
+}
@@ -0,0 +1,63 @@
+package com.scoreboard.event;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.locks.Condition;
+
+/**
+ * Delivers every event in order from a bounded FIFO buffer, dropping the oldest or
+ * blocking the publisher when it is full. A blocking buffer lets events published from the
+ * subscriber's own {@code onNext} exceed the bound rather than deadlock.
+ */
+final class BufferedSubscription extends EventSubscription {
+    private final Condition notFull = lock.newCondition();
+    private final ArrayDeque<ScoreboardEvent> buffer;
+    private final int capacity;
+    private final boolean blocking;
+
+    BufferedSubscription(ScoreboardEventPublisher publisher, Flow.Subscriber<? super ScoreboardEvent> subscriber,
+                         Executor executor, int capacity, boolean blocking) {
+        super(publisher, subscriber, executor);
+        this.buffer = new ArrayDeque<>(capacity);
+        this.capacity = capacity;
+        this.blocking = blocking;
+    }
+
+    @Override
+    void offer(ScoreboardEvent event) {
+        lock.lock();
+        try {
+            // The subscriber's own callbacks would wait for themselves, so they overfill instead
+            boolean overfill = blocking && isDeliveringThread();
+            while (blocking && !overfill && buffer.size() >= capacity && !cancelled) {
+                notFull.awaitUninterruptibly();
+            }
+            if (cancelled) {
+                return;
+            }
+            if (!blocking && buffer.size() >= capacity) {
+                buffer.pollFirst();
+            }
+            buffer.addLast(event);
+        } finally {
+            lock.unlock();
+        }
+        scheduleDrain();
+    }
+
+    @Override
+    void poll(int max, List<ScoreboardEvent> batch) {
+        while (batch.size() < max && !buffer.isEmpty()) {
+            batch.add(buffer.pollFirst());
+        }
+        notFull.signalAll();
+    }
+
+    @Override
+    void clear() {
+        buffer.clear();
+        notFull.signalAll();
+    }
+}
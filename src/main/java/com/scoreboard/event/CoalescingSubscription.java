@@ -0,0 +1,94 @@
+package com.scoreboard.event;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+
+/**
+ * Keeps one pending slot per game and delivers only the latest score of each.
+ * <p>
+ * A score update overwrites the game's slot in O(1); the game ID is queued as dirty only
+ * when its slot is first filled. Pending work is therefore bounded by the number of games,
+ * not the number of updates, and a burst on one game costs the subscriber a single event.
+ * Within a game, start, latest score and finish are still delivered in that order.
+ */
+final class CoalescingSubscription extends EventSubscription {
+    private final Map<Long, PendingGame> pending = new HashMap<>();
+    private final ArrayDeque<Long> dirtyGameIds = new ArrayDeque<>();
+
+    CoalescingSubscription(ScoreboardEventPublisher publisher, Flow.Subscriber<? super ScoreboardEvent> subscriber,
+                           Executor executor) {
+        super(publisher, subscriber, executor);
+    }
+
+    @Override
+    void offer(ScoreboardEvent event) {
+        lock.lock();
+        try {
+            if (cancelled) {
+                return;
+            }
+            PendingGame slot = pending.get(event.gameId());
+            if (slot == null) {
+                slot = new PendingGame();
+                pending.put(event.gameId(), slot);
+                dirtyGameIds.addLast(event.gameId());
+            }
+            switch (event) {
+                case ScoreboardEvent.GameStarted started -> slot.started = started;
+                case ScoreboardEvent.ScoreUpdated updated -> slot.latestScore = updated;
+                case ScoreboardEvent.GameFinished finished -> slot.finished = finished;
+            }
+        } finally {
+            lock.unlock();
+        }
+        scheduleDrain();
+    }
+
+    @Override
+    void poll(int max, List<ScoreboardEvent> batch) {
+        while (batch.size() < max && !dirtyGameIds.isEmpty()) {
+            Long gameId = dirtyGameIds.peekFirst();
+            PendingGame slot = pending.get(gameId);
+            batch.add(slot.poll());
+            if (slot.isEmpty()) {
+                pending.remove(gameId);
+                dirtyGameIds.pollFirst();
+            }
+        }
+    }
+
+    @Override
+    void clear() {
+        pending.clear();
+        dirtyGameIds.clear();
+    }
+
+    private static final class PendingGame {
+        private ScoreboardEvent.GameStarted started;
+        private ScoreboardEvent.ScoreUpdated latestScore;
+        private ScoreboardEvent.GameFinished finished;
+
+        ScoreboardEvent poll() {
+            ScoreboardEvent next;
+            if (started != null) {
+                next = started;
+                started = null;
+            } else if (latestScore != null) {
+                next = latestScore;
+                latestScore = null;
+            } else {
+                next = finished;
+                finished = null;
+            }
+            return next;
+        }
+
+        boolean isEmpty() {
+            return started == null && latestScore == null && finished == null;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.scoreboard.event;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * One subscriber's demand accounting and delivery loop; subclasses decide how pending events are held.
+ * <p>
+ * Events are buffered by the publishing thread and delivered in batches on the executor,
+ * so the subscriber's {@code onNext} never runs on a scoreboard writer thread.
+ */
+abstract class EventSubscription implements Flow.Subscription {
+    private static final int MAX_BATCH_SIZE = 64;
+
+    protected final ReentrantLock lock = new ReentrantLock();
+    private final ScoreboardEventPublisher publisher;
+    private final Flow.Subscriber<? super ScoreboardEvent> subscriber;
+    private final Executor executor;
+    private final AtomicInteger drainRequests = new AtomicInteger();
+    private volatile Thread deliveringThread;
+    private long demand;
+    protected boolean cancelled;
+
+    EventSubscription(ScoreboardEventPublisher publisher, Flow.Subscriber<? super ScoreboardEvent> subscriber,
+                      Executor executor) {
+        this.publisher = publisher;
+        this.subscriber = subscriber;
+        this.executor = executor;
+    }
+
+    /**
+     * Buffers an event for delivery; called on the publishing thread.
+     */
+    abstract void offer(ScoreboardEvent event);
+
+    /**
+     * Moves up to {@code max} pending events into {@code batch}, in delivery order. Called with the lock held.
+     */
+    abstract void poll(int max, List<ScoreboardEvent> batch);
+
+    /**
+     * Discards every pending event. Called with the lock held.
+     */
+    abstract void clear();
+
+    @Override
+    public void request(long n) {
+        if (n <= 0) {
+            cancel();
+            subscriber.onError(new IllegalArgumentException("Requested demand must be positive (got: " + n + ")"));
+            return;
+        }
+        lock.lock();
+        try {
+            demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+        } finally {
+            lock.unlock();
+        }
+        scheduleDrain();
+    }
+
+    @Override
+    public void cancel() {
+        lock.lock();
+        try {
+            cancelled = true;
+            clear();
+        } finally {
+            lock.unlock();
+        }
+        publisher.remove(this);
+    }
+
+    /**
+     * Whether the caller is inside this subscriber's {@code onNext}, e.g. calling back into the scoreboard.
+     */
+    protected boolean isDeliveringThread() {
+        return deliveringThread == Thread.currentThread();
+    }
+
+    protected void scheduleDrain() {
+        if (drainRequests.getAndIncrement() == 0) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        List<ScoreboardEvent> batch = new ArrayList<>();
+        int missed = 1;
+        do {
+            while (true) {
+                lock.lock();
+                try {
+                    if (cancelled || demand == 0) {
+                        break;
+                    }
+                    poll((int) Math.min(demand, MAX_BATCH_SIZE), batch);
+                    demand -= batch.size();
+                } finally {
+                    lock.unlock();
+                }
+                if (batch.isEmpty()) {
+                    break;
+                }
+                deliveringThread = Thread.currentThread();
+                try {
+                    for (ScoreboardEvent event : batch) {
+                        subscriber.onNext(event);
+                    }
+                } catch (RuntimeException e) {
+                    cancel();
+                    subscriber.onError(e);
+                    return;
+                } finally {
+                    deliveringThread = null;
+                }
+                batch.clear();
+            }
+            missed = drainRequests.addAndGet(-missed);
+        } while (missed != 0);
+    }
+}
@@ -0,0 +1,41 @@
+package com.scoreboard.event;
+
+import java.time.Instant;
+
+/**
+ * A change to the scoreboard, delivered to subscribers in per-game order.
+ * <p>
+ * Sequence numbers are unique and increase with every mutation. Events for the same game
+ * are always delivered in sequence order; events for different games may interleave.
+ */
+public sealed interface ScoreboardEvent {
+
+    long sequence();
+
+    long gameId();
+
+    /**
+     * @param competition the game's competition, or {@code null} if it has none
+     */
+    record GameStarted(long sequence, long gameId, String homeTeam, String awayTeam, Instant startTime,
+                       long startSequence, String competition)
+            implements ScoreboardEvent {
+    }
+
+    /**
+     * @param sourceVersion the feed version the score was ingested with, or {@link Long#MIN_VALUE} if none
+     */
+    record ScoreUpdated(long sequence, long gameId, int homeScore, int awayScore, long sourceVersion)
+            implements ScoreboardEvent {
+
+        public ScoreUpdated(long sequence, long gameId, int homeScore, int awayScore) {
+            this(sequence, gameId, homeScore, awayScore, Long.MIN_VALUE);
+        }
+    }
+
+    /**
+     * @param finishTime when the scoreboard finished the game, not when the event is delivered
+     */
+    record GameFinished(long sequence, long gameId, Instant finishTime) implements ScoreboardEvent {
+    }
+}
@@ -0,0 +1,79 @@
+package com.scoreboard.event;
+
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Fans scoreboard events out to subscribers, each with its own bounded buffer.
+ * <p>
+ * Publishing only appends to each subscriber's buffer; delivery happens on the executor.
+ * Unless a subscriber chose {@link BackpressurePolicy#BLOCK}, a slow subscriber loses
+ * events instead of stalling the scoreboard.
+ */
+public final class ScoreboardEventPublisher implements Flow.Publisher<ScoreboardEvent> {
+    public static final int DEFAULT_BUFFER_SIZE = 256;
+
+    private final Executor executor;
+    private final CopyOnWriteArrayList<EventSubscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    public ScoreboardEventPublisher() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public ScoreboardEventPublisher(Executor executor) {
+        this.executor = Objects.requireNonNull(executor, "Executor cannot be null");
+    }
+
+    /**
+     * Subscribes with a {@value #DEFAULT_BUFFER_SIZE} event buffer that drops the oldest event when full.
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super ScoreboardEvent> subscriber) {
+        subscribe(subscriber, DEFAULT_BUFFER_SIZE, BackpressurePolicy.DROP_OLDEST);
+    }
+
+    /**
+     * Subscribes with an explicit buffer size and overflow policy.
+     * {@link BackpressurePolicy#COALESCE} keeps one slot per game and ignores the buffer size.
+     */
+    public void subscribe(Flow.Subscriber<? super ScoreboardEvent> subscriber, int bufferSize, BackpressurePolicy policy) {
+        Objects.requireNonNull(subscriber, "Subscriber cannot be null");
+        Objects.requireNonNull(policy, "Backpressure policy cannot be null");
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("Buffer size must be positive (got: " + bufferSize + ")");
+        }
+
+        EventSubscription subscription = switch (policy) {
+            case DROP_OLDEST -> new BufferedSubscription(this, subscriber, executor, bufferSize, false);
+            case BLOCK -> new BufferedSubscription(this, subscriber, executor, bufferSize, true);
+            case COALESCE -> new CoalescingSubscription(this, subscriber, executor);
+        };
+        subscriptions.add(subscription);
+        subscriber.onSubscribe(subscription);
+    }
+
+    /**
+     * Cheap check that lets publishers skip building events nobody will receive.
+     */
+    public boolean hasSubscribers() {
+        return !subscriptions.isEmpty();
+    }
+
+    public int getSubscriberCount() {
+        return subscriptions.size();
+    }
+
+    public void publish(ScoreboardEvent event) {
+        Objects.requireNonNull(event, "Event cannot be null");
+        for (EventSubscription subscription : subscriptions) {
+            subscription.offer(event);
+        }
+    }
+
+    void remove(EventSubscription subscription) {
+        subscriptions.remove(subscription);
+    }
+}
@@ -0,0 +1,133 @@
+package com.scoreboard.http;
+
+import com.scoreboard.Scoreboard;
+import com.scoreboard.event.BackpressurePolicy;
+import com.scoreboard.event.ScoreboardEvent;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streams scoreboard changes to each client as server-sent events.
+ * <p>
+ * Every connection gets its own coalescing subscription, so a slow client sees the latest
+ * score of each game rather than every intermediate one and never stalls the scoreboard.
+ * Starts and finishes are never dropped. Idle streams send a comment every few seconds so
+ * dead connections are noticed.
+ */
+final class EventStreamHandler implements HttpHandler {
+    private static final long HEARTBEAT_MILLIS = 10_000;
+    private static final long POLL_MILLIS = 500;
+
+    private final Scoreboard scoreboard;
+    private volatile boolean closed;
+
+    EventStreamHandler(Scoreboard scoreboard) {
+        this.scoreboard = scoreboard;
+    }
+
+    void close() {
+        closed = true;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!exchange.getRequestMethod().equals("GET")) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            StreamSubscriber subscriber = new StreamSubscriber();
+            scoreboard.subscribe(subscriber, 1, BackpressurePolicy.COALESCE);
+            try {
+                exchange.getResponseHeaders().set("Content-Type", "text/event-stream; charset=utf-8");
+                exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+                exchange.sendResponseHeaders(200, 0);
+                stream(exchange.getResponseBody(), subscriber);
+            } catch (IOException e) {
+                // Client disconnected
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                subscriber.cancel();
+            }
+        }
+    }
+
+    private void stream(OutputStream out, StreamSubscriber subscriber) throws IOException, InterruptedException {
+        out.write(": connected\n\n".getBytes(StandardCharsets.UTF_8));
+        out.flush();
+        long idleMillis = 0;
+        while (!closed) {
+            ScoreboardEvent event = subscriber.poll(POLL_MILLIS);
+            if (event == null) {
+                idleMillis += POLL_MILLIS;
+                if (idleMillis >= HEARTBEAT_MILLIS) {
+                    out.write(": heartbeat\n\n".getBytes(StandardCharsets.UTF_8));
+                    out.flush();
+                    idleMillis = 0;
+                }
+                continue;
+            }
+            idleMillis = 0;
+            String frame = "id: " + event.sequence() + "\nevent: " + eventName(event) + "\ndata: " + Json.event(event) + "\n\n";
+            out.write(frame.getBytes(StandardCharsets.UTF_8));
+            out.flush();
+        }
+    }
+
+    private static String eventName(ScoreboardEvent event) {
+        return switch (event) {
+            case ScoreboardEvent.GameStarted ignored -> "game-started";
+            case ScoreboardEvent.ScoreUpdated ignored -> "score-updated";
+            case ScoreboardEvent.GameFinished ignored -> "game-finished";
+        };
+    }
+
+    /**
+     * Hands events to the streaming thread one at a time, requesting the next only once
+     * the previous one was taken, so undelivered events stay coalesced in the subscription.
+     */
+    private static final class StreamSubscriber implements Flow.Subscriber<ScoreboardEvent> {
+        private final BlockingQueue<ScoreboardEvent> handoff = new LinkedBlockingQueue<>();
+        private volatile Flow.Subscription subscription;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(ScoreboardEvent event) {
+            handoff.add(event);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+
+        ScoreboardEvent poll(long timeoutMillis) throws InterruptedException {
+            ScoreboardEvent event = handoff.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+            if (event != null) {
+                subscription.request(1);
+            }
+            return event;
+        }
+
+        void cancel() {
+            subscription.cancel();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.scoreboard.http;
+
+import com.scoreboard.SummaryFormat;
+import com.scoreboard.event.ScoreboardEvent;
+
+/**
+ * Minimal JSON encoding of change events and errors for the HTTP API; games use
+ * {@link SummaryFormat#JSON}, and strings are escaped with {@link SummaryFormat#appendJsonString}.
+ */
+final class Json {
+
+    private Json() {
+    }
+
+    static String event(ScoreboardEvent event) {
+        StringBuilder json = new StringBuilder(128)
+                .append("{\"sequence\":").append(event.sequence())
+                .append(",\"gameId\":").append(event.gameId());
+        switch (event) {
+            case ScoreboardEvent.GameStarted started -> {
+                json.append(",\"homeTeam\":");
+                SummaryFormat.appendJsonString(json, started.homeTeam());
+                json.append(",\"awayTeam\":");
+                SummaryFormat.appendJsonString(json, started.awayTeam());
+                json.append(",\"startTime\":\"").append(started.startTime()).append('"');
+                if (started.competition() != null) {
+                    json.append(",\"competition\":");
+                    SummaryFormat.appendJsonString(json, started.competition());
+                }
+            }
+            case ScoreboardEvent.ScoreUpdated updated -> json
+                    .append(",\"homeScore\":").append(updated.homeScore())
+                    .append(",\"awayScore\":").append(updated.awayScore());
+            case ScoreboardEvent.GameFinished ignored -> {
+            }
+        }
+        return json.append('}').toString();
+    }
+
+    static String error(String message) {
+        StringBuilder json = new StringBuilder("{\"error\":");
+        return SummaryFormat.appendJsonString(json, String.valueOf(message)).append('}').toString();
+    }
+}
@@ -0,0 +1,257 @@
+package com.scoreboard.http;
+
+import com.scoreboard.GameNotFoundException;
+import com.scoreboard.Scoreboard;
+import com.scoreboard.SummaryFormat;
+import com.scoreboard.SummaryPayload;
+import com.scoreboard.TeamAlreadyPlayingException;
+import com.scoreboard.model.Game;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Embedded HTTP/JSON API over a {@link Scoreboard}, built on the JDK's HTTP server with one
+ * virtual thread per exchange.
+ * <ul>
+ *   <li>{@code POST /games?home=&away=[&competition=]} starts a game: {@code 201} with the game</li>
+ *   <li>{@code GET /games/{id}} returns a live game</li>
+ *   <li>{@code PUT /games/{id}/score?home=&away=} updates its score: {@code 204}</li>
+ *   <li>{@code DELETE /games/{id}} finishes it: {@code 204}</li>
+ *   <li>{@code GET /summary[?offset=&limit=]} and {@code GET /summary/top?k=} return summary pages</li>
+ *   <li>{@code GET /events} streams changes as server-sent events</li>
+ * </ul>
+ * Failures map to {@code 400} (invalid argument), {@code 404} (unknown game) and {@code 409}
+ * (team already playing) with a {@code {"error": ...}} body.
+ * <p>
+ * Summary responses are slices of the scoreboard's cached {@link SummaryPayload}, in JSON by
+ * default or as text or binary per the {@code Accept} header, so any number of pollers
+ * between two mutations cost a byte copy each. The snapshot version is part of the
+ * {@code ETag}, and a matching {@code If-None-Match} is answered with {@code 304}.
+ */
+public final class ScoreboardHttpServer implements Closeable {
+
+    private final Scoreboard scoreboard;
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final EventStreamHandler eventStream;
+
+    private ScoreboardHttpServer(Scoreboard scoreboard, HttpServer server) {
+        this.scoreboard = scoreboard;
+        this.server = server;
+        this.eventStream = new EventStreamHandler(scoreboard);
+        server.setExecutor(executor);
+        server.createContext("/games", safely(this::handleGames));
+        server.createContext("/summary", safely(this::handleSummary));
+        server.createContext("/events", eventStream);
+    }
+
+    /**
+     * Starts serving on the given port of the loopback address; {@code 0} picks a free port.
+     */
+    public static ScoreboardHttpServer start(Scoreboard scoreboard, int port) throws IOException {
+        return start(scoreboard, new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+    }
+
+    public static ScoreboardHttpServer start(Scoreboard scoreboard, InetSocketAddress address) throws IOException {
+        Objects.requireNonNull(scoreboard, "Scoreboard cannot be null");
+        Objects.requireNonNull(address, "Address cannot be null");
+        ScoreboardHttpServer httpServer = new ScoreboardHttpServer(scoreboard, HttpServer.create(address, 0));
+        httpServer.server.start();
+        return httpServer;
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        eventStream.close();
+        server.stop(0);
+        executor.close();
+    }
+
+    private void handleGames(HttpExchange exchange) throws IOException {
+        String[] path = pathSegments(exchange, "/games");
+        String method = exchange.getRequestMethod();
+        Map<String, String> query = queryParameters(exchange);
+
+        if (path.length == 0) {
+            if (!method.equals("POST")) {
+                sendError(exchange, 405, "Use POST to start a game");
+                return;
+            }
+            String competition = query.get("competition");
+            Game game = competition == null
+                    ? scoreboard.startGame(query.get("home"), query.get("away"))
+                    : scoreboard.startGame(query.get("home"), query.get("away"), competition);
+            sendJson(exchange, 201, SummaryFormat.JSON.encode(game));
+            return;
+        }
+
+        long gameId = parseLong(path[0], "game ID");
+        if (path.length == 2 && path[1].equals("score") && method.equals("PUT")) {
+            scoreboard.updateScore(gameId, parseInt(query.get("home"), "home"), parseInt(query.get("away"), "away"));
+            sendEmpty(exchange, 204);
+        } else if (path.length == 1 && method.equals("GET")) {
+            Optional<Game> game = scoreboard.findGame(gameId);
+            if (game.isEmpty()) {
+                throw GameNotFoundException.stackless(gameId);
+            }
+            sendJson(exchange, 200, SummaryFormat.JSON.encode(game.get()));
+        } else if (path.length == 1 && method.equals("DELETE")) {
+            if (!scoreboard.finishGame(gameId)) {
+                throw GameNotFoundException.stackless(gameId);
+            }
+            sendEmpty(exchange, 204);
+        } else {
+            sendError(exchange, 405, method + " is not supported on " + exchange.getRequestURI().getPath());
+        }
+    }
+
+    private void handleSummary(HttpExchange exchange) throws IOException {
+        if (!exchange.getRequestMethod().equals("GET")) {
+            sendError(exchange, 405, "Use GET to read the summary");
+            return;
+        }
+        String[] path = pathSegments(exchange, "/summary");
+        Map<String, String> query = queryParameters(exchange);
+        int offset;
+        int limit;
+        if (path.length == 0) {
+            offset = query.containsKey("offset") ? parseInt(query.get("offset"), "offset") : 0;
+            limit = query.containsKey("limit") ? parseInt(query.get("limit"), "limit") : Integer.MAX_VALUE;
+        } else if (path.length == 1 && path[0].equals("top")) {
+            offset = 0;
+            limit = parseInt(query.get("k"), "k");
+        } else {
+            sendError(exchange, 404, "No such summary view: " + exchange.getRequestURI().getPath());
+            return;
+        }
+        SummaryFormat format = negotiateFormat(exchange.getRequestHeaders().getFirst("Accept"));
+        SummaryPayload summary = scoreboard.getSummaryPayload(format);
+        long length = summary.pageLength(offset, limit);
+
+        String etag = "\"" + format.name().toLowerCase() + "-" + summary.version() + "\"";
+        exchange.getResponseHeaders().set("ETag", etag);
+        if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            sendEmpty(exchange, 304);
+            return;
+        }
+        exchange.getResponseHeaders().set("Content-Type", format.mediaType());
+        exchange.sendResponseHeaders(200, length);
+        try (OutputStream body = exchange.getResponseBody()) {
+            summary.writePage(body, offset, limit);
+        }
+    }
+
+    /**
+     * Picks the summary encoding from an {@code Accept} header, defaulting to JSON.
+     */
+    private static SummaryFormat negotiateFormat(String accept) {
+        if (accept != null) {
+            if (accept.contains("text/plain")) {
+                return SummaryFormat.TEXT;
+            }
+            if (accept.contains("application/octet-stream")) {
+                return SummaryFormat.BINARY;
+            }
+        }
+        return SummaryFormat.JSON;
+    }
+
+    private interface ExchangeHandler {
+        void handle(HttpExchange exchange) throws IOException;
+    }
+
+    /**
+     * Maps scoreboard exceptions to status codes and always closes the exchange.
+     */
+    private static HttpHandler safely(ExchangeHandler handler) {
+        return exchange -> {
+            try (exchange) {
+                try {
+                    handler.handle(exchange);
+                } catch (GameNotFoundException e) {
+                    sendError(exchange, 404, e.getMessage());
+                } catch (TeamAlreadyPlayingException e) {
+                    sendError(exchange, 409, e.getMessage());
+                } catch (IllegalArgumentException | NullPointerException e) {
+                    sendError(exchange, 400, e.getMessage());
+                }
+            }
+        };
+    }
+
+    private static String[] pathSegments(HttpExchange exchange, String context) {
+        String rest = exchange.getRequestURI().getPath().substring(context.length());
+        String trimmed = rest.replaceAll("^/+|/+$", "");
+        return trimmed.isEmpty() ? new String[0] : trimmed.split("/+");
+    }
+
+    private static Map<String, String> queryParameters(HttpExchange exchange) {
+        String query = exchange.getRequestURI().getRawQuery();
+        Map<String, String> parameters = new HashMap<>();
+        if (query == null) {
+            return parameters;
+        }
+        for (String pair : query.split("&")) {
+            int separator = pair.indexOf('=');
+            String name = separator < 0 ? pair : pair.substring(0, separator);
+            String value = separator < 0 ? "" : pair.substring(separator + 1);
+            parameters.putIfAbsent(URLDecoder.decode(name, StandardCharsets.UTF_8),
+                    URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return parameters;
+    }
+
+    private static int parseInt(String value, String name) {
+        if (value == null) {
+            throw new IllegalArgumentException("Missing parameter: " + name);
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + value);
+        }
+    }
+
+    private static long parseLong(String value, String name) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + value);
+        }
+    }
+
+    private static void sendJson(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", SummaryFormat.JSON.mediaType());
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        sendJson(exchange, status, Json.error(message).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void sendEmpty(HttpExchange exchange, int status) throws IOException {
+        exchange.sendResponseHeaders(status, -1);
+    }
+}
@@ -0,0 +1,603 @@
+package com.scoreboard.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only binary journal of scoreboard mutations with group commit.
+ * <p>
+ * Appends only copy the record into an in-memory buffer; a background thread writes
+ * and fsyncs pending records once {@link JournalConfig#groupCommitSize()} records are
+ * waiting or {@link JournalConfig#groupCommitDelay()} has elapsed, so writers never
+ * block on disk. Each record is framed as {@code [length][crc32c][body]}; a torn or
+ * corrupt tail left by a crash is truncated when the journal is opened.
+ * <p>
+ * A {@link #checkpoint()} retires the current segment, writes a memory-mapped
+ * {@link SnapshotFile} of the attached scoreboard state and deletes the retired segments,
+ * so restart cost depends on the number of live games rather than the length of history.
+ * Segments carry a generation number; segments older than the snapshot are ignored,
+ * and newer ones are replayed on top of it. Replay is idempotent, so records that the
+ * snapshot already reflects are harmless.
+ */
+public final class Journal implements AutoCloseable {
+    private static final byte GAME_STARTED = 1;
+    private static final byte SCORE_UPDATED = 2;
+    private static final byte GAME_FINISHED = 3;
+    private static final int FILE_MAGIC = 0x53424A4C; // "SBJL"
+    private static final int FILE_FORMAT = 4;
+    private static final int FILE_HEADER_SIZE = 16;
+    private static final int HEADER_SIZE = Integer.BYTES * 2;
+    private static final int MAX_BODY_SIZE = 1 << 16;
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+
+    private final JournalConfig config;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition flushRequested = lock.newCondition();
+    private final Condition flushCompleted = lock.newCondition();
+    private final CRC32C checksum = new CRC32C();
+    private final Thread flusher;
+    private final ReentrantLock checkpointLock = new ReentrantLock();
+    private volatile Supplier<SnapshotContents> checkpointSource;
+    private ScheduledExecutorService checkpointScheduler;
+
+    private FileChannel channel;
+    private long generation;
+    private ByteBuffer pending = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+    private ByteBuffer spare = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+    private int pendingRecords;
+    private long appendedRecords;
+    private long durableRecords;
+    private boolean syncRequested;
+    private boolean closed;
+    private IOException failure;
+
+    private Journal(JournalConfig config, FileChannel channel, long generation) {
+        this.config = config;
+        this.channel = channel;
+        this.generation = generation;
+        this.flusher = Thread.ofPlatform()
+                .name("scoreboard-journal")
+                .daemon()
+                .start(this::runFlusher);
+    }
+
+    /**
+     * Opens the journal, discarding segments covered by the snapshot and truncating any torn tail,
+     * and starts the background flusher.
+     */
+    public static Journal open(JournalConfig config) throws IOException {
+        Objects.requireNonNull(config, "Journal config cannot be null");
+        long snapshotGeneration = SnapshotFile.readGeneration(config.snapshotPath());
+        List<Long> retired = retiredGenerations(config);
+        for (long retiredGeneration : retired) {
+            if (retiredGeneration < snapshotGeneration) {
+                Files.delete(config.retiredPath(retiredGeneration));
+            }
+        }
+
+        FileChannel channel = FileChannel.open(config.path(),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            long generation = readGeneration(channel);
+            if (generation < snapshotGeneration) {
+                long next = retired.isEmpty() ? 0 : retired.getLast() + 1;
+                generation = Math.max(snapshotGeneration, next);
+                writeHeader(channel, generation);
+            }
+            long validEnd = scan(channel, null);
+            if (validEnd < channel.size()) {
+                channel.truncate(validEnd);
+            }
+            channel.position(validEnd);
+            return new Journal(config, channel, generation);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public JournalConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Replays the snapshot, then every durable record in append order.
+     * Must be called before anything is appended.
+     */
+    public void replay(JournalReplayHandler handler) throws IOException {
+        Objects.requireNonNull(handler, "Replay handler cannot be null");
+        lock.lock();
+        try {
+            if (appendedRecords > 0) {
+                throw new IllegalStateException("Journal can only be replayed before the first append");
+            }
+            SnapshotFile.replay(config.snapshotPath(), handler);
+            for (long retiredGeneration : retiredGenerations(config)) {
+                try (FileChannel retired = FileChannel.open(config.retiredPath(retiredGeneration), StandardOpenOption.READ)) {
+                    readGeneration(retired);
+                    scan(retired, handler);
+                }
+            }
+            scan(channel, handler);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Sets the state captured by checkpoints and, if configured, starts periodic checkpointing.
+     * The source is called after the current segment has been retired, without pausing appends,
+     * and must reflect at least every mutation whose record was appended before the call.
+     */
+    public void attach(Supplier<SnapshotContents> source) {
+        checkpointLock.lock();
+        try {
+            if (checkpointSource != null) {
+                throw new IllegalStateException("Journal already has a checkpoint source");
+            }
+            checkpointSource = Objects.requireNonNull(source, "Checkpoint source cannot be null");
+
+            long intervalNanos = config.checkpointInterval().toNanos();
+            if (intervalNanos > 0) {
+                checkpointScheduler = Executors.newSingleThreadScheduledExecutor(task -> Thread.ofPlatform()
+                        .name("scoreboard-checkpoint")
+                        .daemon()
+                        .unstarted(task));
+                checkpointScheduler.scheduleWithFixedDelay(this::checkpointQuietly,
+                        intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+            }
+        } finally {
+            checkpointLock.unlock();
+        }
+    }
+
+    /**
+     * Writes a snapshot of the attached state and truncates the journal behind it.
+     * <p>
+     * The current segment is retired while appends are paused, and the state is captured
+     * right after, so the snapshot reflects at least every retired record; records of the
+     * new segment that it also reflects are replayed harmlessly. Capturing the state, the
+     * snapshot and the deletion of retired segments happen without blocking writers, so the
+     * source may wait for writers that are themselves appending.
+     */
+    public void checkpoint() throws IOException {
+        Supplier<SnapshotContents> source = checkpointSource;
+        if (source == null) {
+            throw new IllegalStateException("Journal has no checkpoint source attached");
+        }
+
+        checkpointLock.lock();
+        try {
+            long coveredGeneration;
+            SnapshotContents contents;
+
+            lock.lock();
+            try {
+                awaitDurable();
+                rotate();
+                coveredGeneration = generation;
+            } finally {
+                lock.unlock();
+            }
+            contents = source.get();
+
+            SnapshotFile.write(config.snapshotPath(), coveredGeneration, contents);
+            for (long retiredGeneration : retiredGenerations(config)) {
+                if (retiredGeneration < coveredGeneration) {
+                    Files.delete(config.retiredPath(retiredGeneration));
+                }
+            }
+        } finally {
+            checkpointLock.unlock();
+        }
+    }
+
+    /**
+     * @param competition the game's competition, or {@code null} if it has none; stored as an empty string
+     */
+    public void appendGameStarted(long gameId, String homeTeam, String awayTeam, Instant startTime, long startSequence,
+                                  String competition) {
+        byte[] home = homeTeam.getBytes(StandardCharsets.UTF_8);
+        byte[] away = awayTeam.getBytes(StandardCharsets.UTF_8);
+        byte[] group = competition == null ? new byte[0] : competition.getBytes(StandardCharsets.UTF_8);
+        int bodySize = 1 + Long.BYTES + Long.BYTES + Integer.BYTES + Long.BYTES
+                + Short.BYTES + home.length + Short.BYTES + away.length + Short.BYTES + group.length;
+
+        lock.lock();
+        try {
+            ByteBuffer body = beginRecord(bodySize);
+            body.put(GAME_STARTED)
+                    .putLong(gameId)
+                    .putLong(startTime.getEpochSecond())
+                    .putInt(startTime.getNano())
+                    .putLong(startSequence)
+                    .putShort((short) home.length).put(home)
+                    .putShort((short) away.length).put(away)
+                    .putShort((short) group.length).put(group);
+            endRecord(bodySize);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void appendScoreUpdated(long gameId, int homeScore, int awayScore) {
+        appendScoreUpdated(gameId, homeScore, awayScore, Long.MIN_VALUE);
+    }
+
+    /**
+     * @param sourceVersion the feed version the score was ingested with, or {@link Long#MIN_VALUE} if none
+     */
+    public void appendScoreUpdated(long gameId, int homeScore, int awayScore, long sourceVersion) {
+        int bodySize = 1 + Long.BYTES + Short.BYTES + Short.BYTES + Long.BYTES;
+
+        lock.lock();
+        try {
+            ByteBuffer body = beginRecord(bodySize);
+            body.put(SCORE_UPDATED)
+                    .putLong(gameId)
+                    .putShort((short) homeScore)
+                    .putShort((short) awayScore)
+                    .putLong(sourceVersion);
+            endRecord(bodySize);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void appendGameFinished(long gameId) {
+        int bodySize = 1 + Long.BYTES;
+
+        lock.lock();
+        try {
+            ByteBuffer body = beginRecord(bodySize);
+            body.put(GAME_FINISHED).putLong(gameId);
+            endRecord(bodySize);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Blocks until every record appended so far has been written and fsynced.
+     */
+    public void sync() throws IOException {
+        lock.lock();
+        try {
+            awaitDurable();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Flushes pending records, stops the flusher and closes the file.
+     */
+    @Override
+    public void close() throws IOException {
+        boolean interrupted = false;
+        checkpointLock.lock();
+        try {
+            if (checkpointScheduler != null) {
+                checkpointScheduler.shutdownNow();
+            }
+        } finally {
+            checkpointLock.unlock();
+        }
+
+        lock.lock();
+        try {
+            closed = true;
+            flushRequested.signal();
+        } finally {
+            lock.unlock();
+        }
+
+        while (flusher.isAlive()) {
+            try {
+                flusher.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        channel.close();
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        lock.lock();
+        try {
+            throwIfFailed();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void checkpointQuietly() {
+        try {
+            checkpoint();
+        } catch (IOException | RuntimeException e) {
+            // Retired segments stay on disk and are covered by the next successful checkpoint
+        }
+    }
+
+    /**
+     * Waits, holding the lock on return, until every appended record is durable.
+     */
+    private void awaitDurable() throws IOException {
+        while (durableRecords < appendedRecords) {
+            throwIfFailed();
+            if (closed) {
+                throw new IOException("Journal closed before records became durable");
+            }
+            syncRequested = true;
+            flushRequested.signal();
+            flushCompleted.awaitUninterruptibly();
+        }
+    }
+
+    /**
+     * Moves the current segment aside and starts the next generation. Called with the lock held
+     * and nothing pending, so the flusher cannot be writing to the old channel.
+     */
+    private void rotate() throws IOException {
+        try {
+            channel.close();
+            Files.move(config.path(), config.retiredPath(generation));
+            FileChannel next = FileChannel.open(config.path(),
+                    StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            generation++;
+            writeHeader(next, generation);
+            channel = next;
+        } catch (IOException e) {
+            failure = e;
+            closed = true;
+            flushCompleted.signalAll();
+            throw e;
+        }
+    }
+
+    private ByteBuffer beginRecord(int bodySize) {
+        if (closed) {
+            throw new IllegalStateException("Journal is closed");
+        }
+        if (failure != null) {
+            throw new UncheckedIOException("Journal write failed", failure);
+        }
+        int required = HEADER_SIZE + bodySize;
+        if (pending.remaining() < required) {
+            ByteBuffer grown = ByteBuffer.allocate(Math.max(pending.capacity() * 2, pending.position() + required));
+            pending.flip();
+            grown.put(pending);
+            pending = grown;
+        }
+        pending.position(pending.position() + HEADER_SIZE);
+        return pending;
+    }
+
+    private void endRecord(int bodySize) {
+        int bodyStart = pending.position() - bodySize;
+        checksum.reset();
+        checksum.update(pending.slice(bodyStart, bodySize));
+        pending.putInt(bodyStart - HEADER_SIZE, bodySize);
+        pending.putInt(bodyStart - Integer.BYTES, (int) checksum.getValue());
+
+        appendedRecords++;
+        pendingRecords++;
+        if (pendingRecords == 1 || pendingRecords >= config.groupCommitSize()) {
+            flushRequested.signal();
+        }
+    }
+
+    private void runFlusher() {
+        long delayNanos = config.groupCommitDelay().toNanos();
+        while (true) {
+            ByteBuffer batch;
+            long batchEnd;
+            FileChannel target;
+
+            lock.lock();
+            try {
+                long deadline = System.nanoTime() + delayNanos;
+                while (!closed && !syncRequested && pendingRecords < config.groupCommitSize()) {
+                    if (pendingRecords == 0) {
+                        // Idle: sleep until the first record of the next group arrives
+                        flushRequested.await();
+                        deadline = System.nanoTime() + delayNanos;
+                        continue;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    flushRequested.awaitNanos(remaining);
+                }
+                syncRequested = false;
+                if (pendingRecords == 0) {
+                    if (closed) {
+                        return;
+                    }
+                    continue;
+                }
+                batch = pending;
+                batchEnd = appendedRecords;
+                target = channel;
+                pending = spare != null ? spare : ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+                spare = null;
+                pendingRecords = 0;
+            } catch (InterruptedException e) {
+                // Only close() stops the flusher; pending records must still reach disk
+                continue;
+            } finally {
+                lock.unlock();
+            }
+
+            IOException writeFailure = null;
+            try {
+                batch.flip();
+                while (batch.hasRemaining()) {
+                    target.write(batch);
+                }
+                target.force(false);
+            } catch (IOException e) {
+                writeFailure = e;
+            }
+
+            lock.lock();
+            try {
+                if (writeFailure != null) {
+                    failure = writeFailure;
+                    closed = true;
+                    flushCompleted.signalAll();
+                    return;
+                }
+                durableRecords = batchEnd;
+                spare = batch.clear();
+                flushCompleted.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void throwIfFailed() throws IOException {
+        if (failure != null) {
+            throw new IOException("Journal write failed", failure);
+        }
+    }
+
+    /**
+     * Reads records from the start of the file until the end or the first torn or corrupt record.
+     *
+     * @return the file offset just past the last valid record
+     */
+    private static long scan(FileChannel channel, JournalReplayHandler handler) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        CRC32C crc = new CRC32C();
+        long position = FILE_HEADER_SIZE;
+        long size = channel.size();
+
+        while (position + HEADER_SIZE <= size) {
+            header.clear();
+            readFully(channel, header, position);
+            int bodySize = header.getInt(0);
+            int expectedChecksum = header.getInt(Integer.BYTES);
+            if (bodySize <= 0 || bodySize > MAX_BODY_SIZE || position + HEADER_SIZE + bodySize > size) {
+                break;
+            }
+
+            ByteBuffer body = ByteBuffer.allocate(bodySize);
+            readFully(channel, body, position + HEADER_SIZE);
+            crc.reset();
+            crc.update(body.flip());
+            if ((int) crc.getValue() != expectedChecksum) {
+                break;
+            }
+
+            if (handler != null) {
+                dispatch(body.rewind(), handler);
+            }
+            position += HEADER_SIZE + bodySize;
+        }
+        return position;
+    }
+
+    /**
+     * Reads the segment header, returning {@code -1} for a new or headerless segment.
+     */
+    private static long readGeneration(FileChannel channel) throws IOException {
+        if (channel.size() < FILE_HEADER_SIZE) {
+            return -1;
+        }
+        ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_SIZE);
+        readFully(channel, header, 0);
+        if (header.getInt(0) != FILE_MAGIC) {
+            throw new IOException("Not a scoreboard journal");
+        }
+        if (header.getInt(Integer.BYTES) != FILE_FORMAT) {
+            throw new IOException("Unsupported journal format: " + header.getInt(Integer.BYTES));
+        }
+        return header.getLong(Integer.BYTES * 2);
+    }
+
+    private static void writeHeader(FileChannel channel, long generation) throws IOException {
+        channel.truncate(0);
+        ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_SIZE)
+                .putInt(FILE_MAGIC)
+                .putInt(FILE_FORMAT)
+                .putLong(generation)
+                .flip();
+        while (header.hasRemaining()) {
+            channel.write(header, header.position());
+        }
+        channel.force(false);
+        channel.position(FILE_HEADER_SIZE);
+    }
+
+    /**
+     * Lists the generations of retired segments next to the journal, oldest first.
+     */
+    private static List<Long> retiredGenerations(JournalConfig config) throws IOException {
+        Path directory = config.path().toAbsolutePath().getParent();
+        String prefix = config.path().getFileName() + ".";
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith(prefix) && name.length() > prefix.length())
+                    .map(name -> name.substring(prefix.length()))
+                    .filter(suffix -> suffix.chars().allMatch(Character::isDigit))
+                    .map(Long::parseLong)
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static void dispatch(ByteBuffer body, JournalReplayHandler handler) {
+        byte type = body.get();
+        long gameId = body.getLong();
+        switch (type) {
+            case GAME_STARTED -> {
+                Instant startTime = Instant.ofEpochSecond(body.getLong(), body.getInt());
+                long startSequence = body.getLong();
+                String homeTeam = readString(body);
+                String awayTeam = readString(body);
+                String competition = readString(body);
+                handler.onGameStarted(gameId, homeTeam, awayTeam, startTime, startSequence,
+                        competition.isEmpty() ? null : competition);
+            }
+            case SCORE_UPDATED -> handler.onScoreUpdated(gameId, body.getShort(), body.getShort(), body.getLong());
+            case GAME_FINISHED -> handler.onGameFinished(gameId);
+            default -> throw new IllegalStateException("Unknown journal record type: " + type);
+        }
+    }
+
+    private static String readString(ByteBuffer body) {
+        byte[] bytes = new byte[Short.toUnsignedInt(body.getShort())];
+        body.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                throw new IOException("Unexpected end of journal");
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.scoreboard.journal;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Configuration of a {@link Journal}.
+ *
+ * @param path             journal file, created if missing
+ * @param groupCommitSize  number of pending records that triggers an immediate write and fsync
+ * @param groupCommitDelay longest time a record may wait before it is written and fsynced
+ * @param checkpointInterval time between automatic snapshots, or {@link Duration#ZERO} to
+ *                           checkpoint only when {@link Journal#checkpoint()} is called
+ */
+public record JournalConfig(Path path, int groupCommitSize, Duration groupCommitDelay, Duration checkpointInterval) {
+    private static final int DEFAULT_GROUP_COMMIT_SIZE = 256;
+    private static final Duration DEFAULT_GROUP_COMMIT_DELAY = Duration.ofMillis(10);
+
+    public JournalConfig {
+        Objects.requireNonNull(path, "Journal path cannot be null");
+        Objects.requireNonNull(groupCommitDelay, "Group commit delay cannot be null");
+        Objects.requireNonNull(checkpointInterval, "Checkpoint interval cannot be null");
+        if (groupCommitSize < 1) {
+            throw new IllegalArgumentException("Group commit size must be positive (got: " + groupCommitSize + ")");
+        }
+        if (groupCommitDelay.isNegative() || groupCommitDelay.isZero()) {
+            throw new IllegalArgumentException("Group commit delay must be positive (got: " + groupCommitDelay + ")");
+        }
+        if (checkpointInterval.isNegative()) {
+            throw new IllegalArgumentException("Checkpoint interval cannot be negative (got: " + checkpointInterval + ")");
+        }
+    }
+
+    public static JournalConfig of(Path path) {
+        return new JournalConfig(path, DEFAULT_GROUP_COMMIT_SIZE, DEFAULT_GROUP_COMMIT_DELAY, Duration.ZERO);
+    }
+
+    public JournalConfig withCheckpointInterval(Duration interval) {
+        return new JournalConfig(path, groupCommitSize, groupCommitDelay, interval);
+    }
+
+    Path snapshotPath() {
+        return path.resolveSibling(path.getFileName() + ".snapshot");
+    }
+
+    /**
+     * Path a journal segment is moved to when a checkpoint retires it.
+     */
+    Path retiredPath(long generation) {
+        return path.resolveSibling(path.getFileName() + "." + generation);
+    }
+}
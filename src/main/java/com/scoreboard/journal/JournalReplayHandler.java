@@ -0,0 +1,27 @@
+package com.scoreboard.journal;
+
+import java.time.Instant;
+
+/**
+ * Receives the snapshot contents and then journal records, in append order, while a {@link Journal} is replayed.
+ */
+public interface JournalReplayHandler {
+
+    /**
+     * Reports the ID generator position stored in a snapshot, before any of its games.
+     */
+    void onNextGameId(long nextGameId);
+
+    /**
+     * @param competition the game's competition, or {@code null} if it has none
+     */
+    void onGameStarted(long gameId, String homeTeam, String awayTeam, Instant startTime, long startSequence,
+                       String competition);
+
+    /**
+     * @param sourceVersion the feed version the score was ingested with, or {@link Long#MIN_VALUE} if none
+     */
+    void onScoreUpdated(long gameId, int homeScore, int awayScore, long sourceVersion);
+
+    void onGameFinished(long gameId);
+}
@@ -0,0 +1,19 @@
+package com.scoreboard.journal;
+
+import com.scoreboard.model.Game;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Scoreboard state captured for a checkpoint.
+ *
+ * @param nextGameId the next ID the scoreboard would assign
+ * @param games      every live game
+ */
+public record SnapshotContents(long nextGameId, List<Game> games) {
+
+    public SnapshotContents {
+        games = List.copyOf(Objects.requireNonNull(games, "Games cannot be null"));
+    }
+}
@@ -0,0 +1,181 @@
+package com.scoreboard.journal;
+
+import com.scoreboard.model.Game;
+import com.scoreboard.model.Score;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.zip.CRC32C;
+
+/**
+ * Memory-mapped, fixed-width binary snapshot of the scoreboard.
+ * <p>
+ * Layout: a 40 byte header ({@code magic, format, journal generation, next game ID,
+ * game count, crc32c of the records}) followed by one {@value #RECORD_SIZE} byte record
+ * per game. Team and competition names are stored as UTF-16 in fixed {@link Game#MAX_TEAM_NAME_LENGTH}
+ * character slots, with an empty competition for none, so every field sits at a constant offset
+ * and is read straight from the mapping.
+ */
+final class SnapshotFile {
+    private static final int MAGIC = 0x5342534E; // "SBSN"
+    private static final int FORMAT = 4;
+
+    private static final int HEADER_SIZE = 40;
+    private static final int GENERATION_OFFSET = 8;
+    private static final int NEXT_GAME_ID_OFFSET = 16;
+    private static final int COUNT_OFFSET = 24;
+    private static final int CHECKSUM_OFFSET = 28;
+
+    private static final int NAME_SLOT_SIZE = 1 + Game.MAX_TEAM_NAME_LENGTH * Character.BYTES;
+    private static final int ID_OFFSET = 0;
+    private static final int START_SECONDS_OFFSET = 8;
+    private static final int START_NANOS_OFFSET = 16;
+    private static final int HOME_SCORE_OFFSET = 20;
+    private static final int AWAY_SCORE_OFFSET = 22;
+    private static final int START_SEQUENCE_OFFSET = 24;
+    private static final int SOURCE_VERSION_OFFSET = 32;
+    private static final int HOME_TEAM_OFFSET = 40;
+    private static final int AWAY_TEAM_OFFSET = HOME_TEAM_OFFSET + NAME_SLOT_SIZE;
+    private static final int COMPETITION_OFFSET = AWAY_TEAM_OFFSET + NAME_SLOT_SIZE;
+    static final int RECORD_SIZE = COMPETITION_OFFSET + NAME_SLOT_SIZE;
+
+    private SnapshotFile() {
+    }
+
+    /**
+     * Writes the snapshot to a temporary file and atomically moves it into place.
+     *
+     * @param generation first journal generation not covered by this snapshot
+     */
+    static void write(Path path, long generation, SnapshotContents contents) throws IOException {
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        int count = contents.games().size();
+        long size = HEADER_SIZE + (long) count * RECORD_SIZE;
+
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            for (int i = 0; i < count; i++) {
+                writeGame(mapped, HEADER_SIZE + i * RECORD_SIZE, contents.games().get(i));
+            }
+            mapped.putInt(0, MAGIC)
+                    .putInt(4, FORMAT)
+                    .putLong(GENERATION_OFFSET, generation)
+                    .putLong(NEXT_GAME_ID_OFFSET, contents.nextGameId())
+                    .putInt(COUNT_OFFSET, count)
+                    .putInt(CHECKSUM_OFFSET, checksum(mapped, count));
+            mapped.force();
+        }
+        Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Returns the journal generation a snapshot covers, or {@code 0} if there is no snapshot.
+     */
+    static long readGeneration(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return 0;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return validate(map(channel)).getLong(GENERATION_OFFSET);
+        }
+    }
+
+    /**
+     * Feeds every game in the snapshot to the handler as a start followed by a score update.
+     */
+    static void replay(Path path, JournalReplayHandler handler) throws IOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = validate(map(channel));
+            handler.onNextGameId(mapped.getLong(NEXT_GAME_ID_OFFSET));
+
+            int count = mapped.getInt(COUNT_OFFSET);
+            for (int i = 0; i < count; i++) {
+                int offset = HEADER_SIZE + i * RECORD_SIZE;
+                long gameId = mapped.getLong(offset + ID_OFFSET);
+                String competition = readName(mapped, offset + COMPETITION_OFFSET);
+                handler.onGameStarted(gameId,
+                        readName(mapped, offset + HOME_TEAM_OFFSET),
+                        readName(mapped, offset + AWAY_TEAM_OFFSET),
+                        Instant.ofEpochSecond(mapped.getLong(offset + START_SECONDS_OFFSET),
+                                mapped.getInt(offset + START_NANOS_OFFSET)),
+                        mapped.getLong(offset + START_SEQUENCE_OFFSET),
+                        competition.isEmpty() ? null : competition);
+                handler.onScoreUpdated(gameId,
+                        mapped.getShort(offset + HOME_SCORE_OFFSET),
+                        mapped.getShort(offset + AWAY_SCORE_OFFSET),
+                        mapped.getLong(offset + SOURCE_VERSION_OFFSET));
+            }
+        }
+    }
+
+    private static MappedByteBuffer map(FileChannel channel) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+
+    private static MappedByteBuffer validate(MappedByteBuffer mapped) throws IOException {
+        if (mapped.capacity() < HEADER_SIZE || mapped.getInt(0) != MAGIC) {
+            throw new IOException("Not a scoreboard snapshot");
+        }
+        if (mapped.getInt(4) != FORMAT) {
+            throw new IOException("Unsupported snapshot format: " + mapped.getInt(4));
+        }
+        int count = mapped.getInt(COUNT_OFFSET);
+        if (count < 0 || mapped.capacity() != HEADER_SIZE + (long) count * RECORD_SIZE) {
+            throw new IOException("Snapshot size does not match its game count");
+        }
+        if (mapped.getInt(CHECKSUM_OFFSET) != checksum(mapped, count)) {
+            throw new IOException("Snapshot checksum mismatch");
+        }
+        return mapped;
+    }
+
+    private static int checksum(ByteBuffer mapped, int count) {
+        CRC32C crc = new CRC32C();
+        crc.update(mapped.slice(HEADER_SIZE, count * RECORD_SIZE));
+        return (int) crc.getValue();
+    }
+
+    private static void writeGame(ByteBuffer mapped, int offset, Game game) {
+        Instant startTime = game.getStartTime();
+        // Read before the score, so a racing feed update can only leave the score ahead of its
+        // version, and replaying that update from the journal is still accepted
+        long sourceVersion = game.getSourceVersion();
+        Score score = game.getScore();
+        mapped.putLong(offset + ID_OFFSET, game.getId())
+                .putLong(offset + START_SECONDS_OFFSET, startTime.getEpochSecond())
+                .putInt(offset + START_NANOS_OFFSET, startTime.getNano())
+                .putShort(offset + HOME_SCORE_OFFSET, (short) score.home())
+                .putShort(offset + AWAY_SCORE_OFFSET, (short) score.away())
+                .putLong(offset + START_SEQUENCE_OFFSET, game.getStartSequence())
+                .putLong(offset + SOURCE_VERSION_OFFSET, sourceVersion);
+        writeName(mapped, offset + HOME_TEAM_OFFSET, game.getHomeTeam());
+        writeName(mapped, offset + AWAY_TEAM_OFFSET, game.getAwayTeam());
+        writeName(mapped, offset + COMPETITION_OFFSET, game.getCompetition().orElse(""));
+    }
+
+    private static void writeName(ByteBuffer mapped, int offset, String name) {
+        mapped.put(offset, (byte) name.length());
+        for (int i = 0; i < name.length(); i++) {
+            mapped.putChar(offset + 1 + i * Character.BYTES, name.charAt(i));
+        }
+    }
+
+    private static String readName(ByteBuffer mapped, int offset) {
+        char[] chars = new char[mapped.get(offset)];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = mapped.getChar(offset + 1 + i * Character.BYTES);
+        }
+        return new String(chars);
+    }
+}
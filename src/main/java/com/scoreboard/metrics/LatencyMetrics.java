@@ -0,0 +1,160 @@
+package com.scoreboard.metrics;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Records a latency histogram per operation, a counter per failure type, and the scoreboard's
+ * live game and active team gauges.
+ * <p>
+ * Operation counts are the histogram counts. Everything can be read as a plain text report
+ * ({@link #toText()}, one {@code name{labels} value} line per sample) or over JMX after
+ * {@link #registerMBean(String)}.
+ */
+public final class LatencyMetrics implements ScoreboardMetrics, ScoreboardMetricsMXBean {
+    private static final double[] REPORTED_PERCENTILES = {50, 90, 99, 99.9};
+    private static final String[] REPORTED_QUANTILE_LABELS = {"0.5", "0.9", "0.99", "0.999"};
+
+    private final LatencyHistogram[] latencies = new LatencyHistogram[Operation.values().length];
+    private final LongAdder[] failures = new LongAdder[Failure.values().length];
+    private volatile IntSupplier liveGames = () -> 0;
+    private volatile IntSupplier activeTeams = () -> 0;
+
+    public LatencyMetrics() {
+        for (int i = 0; i < latencies.length; i++) {
+            latencies[i] = new LatencyHistogram();
+        }
+        for (int i = 0; i < failures.length; i++) {
+            failures[i] = new LongAdder();
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public long startTimer() {
+        return System.nanoTime();
+    }
+
+    @Override
+    public void recordLatency(Operation operation, long startNanos) {
+        latencies[operation.ordinal()].record(System.nanoTime() - startNanos);
+    }
+
+    @Override
+    public void recordFailure(Failure failure) {
+        failures[failure.ordinal()].increment();
+    }
+
+    @Override
+    public void bindGauges(IntSupplier liveGames, IntSupplier activeTeams) {
+        this.liveGames = liveGames;
+        this.activeTeams = activeTeams;
+    }
+
+    public LatencyHistogram.Snapshot getLatency(Operation operation) {
+        return latencies[operation.ordinal()].snapshot();
+    }
+
+    public long getFailureCount(Failure failure) {
+        return failures[failure.ordinal()].sum();
+    }
+
+    @Override
+    public int getLiveGames() {
+        return liveGames.getAsInt();
+    }
+
+    @Override
+    public int getActiveTeams() {
+        return activeTeams.getAsInt();
+    }
+
+    @Override
+    public Map<String, Long> getOperationCounts() {
+        return perOperation(LatencyHistogram.Snapshot::count);
+    }
+
+    @Override
+    public Map<String, Long> getFailureCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Failure failure : Failure.values()) {
+            counts.put(failure.metricName(), getFailureCount(failure));
+        }
+        return counts;
+    }
+
+    @Override
+    public Map<String, Long> getMedianLatencyNanos() {
+        return perOperation(latency -> latency.valueAtPercentile(50));
+    }
+
+    @Override
+    public Map<String, Long> getP99LatencyNanos() {
+        return perOperation(latency -> latency.valueAtPercentile(99));
+    }
+
+    @Override
+    public Map<String, Long> getMaxLatencyNanos() {
+        return perOperation(LatencyHistogram.Snapshot::max);
+    }
+
+    @Override
+    public String getText() {
+        return toText();
+    }
+
+    /**
+     * Renders every metric as text, one sample per line, e.g.
+     * {@code scoreboard_operation_latency_nanos{operation="update_score",quantile="0.99"} 1535}.
+     */
+    public String toText() {
+        StringBuilder text = new StringBuilder();
+        text.append("scoreboard_live_games ").append(getLiveGames()).append('\n');
+        text.append("scoreboard_active_teams ").append(getActiveTeams()).append('\n');
+        for (Operation operation : Operation.values()) {
+            LatencyHistogram.Snapshot latency = getLatency(operation);
+            String label = "operation=\"" + operation.metricName() + "\"";
+            text.append("scoreboard_operations_total{").append(label).append("} ").append(latency.count()).append('\n');
+            for (int i = 0; i < REPORTED_PERCENTILES.length; i++) {
+                text.append("scoreboard_operation_latency_nanos{").append(label)
+                        .append(",quantile=\"").append(REPORTED_QUANTILE_LABELS[i]).append("\"} ")
+                        .append(latency.valueAtPercentile(REPORTED_PERCENTILES[i])).append('\n');
+            }
+            text.append("scoreboard_operation_latency_nanos_max{").append(label).append("} ")
+                    .append(latency.max()).append('\n');
+        }
+        for (Failure failure : Failure.values()) {
+            text.append("scoreboard_failures_total{failure=\"").append(failure.metricName()).append("\"} ")
+                    .append(getFailureCount(failure)).append('\n');
+        }
+        return text.toString();
+    }
+
+    /**
+     * Registers these metrics with the platform MBean server as
+     * {@code com.scoreboard:type=ScoreboardMetrics,name=<name>}.
+     */
+    public ObjectName registerMBean(String name) throws JMException {
+        ObjectName objectName = new ObjectName("com.scoreboard:type=ScoreboardMetrics,name=" + ObjectName.quote(name));
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+        return objectName;
+    }
+
+    private Map<String, Long> perOperation(ToLongFunction<LatencyHistogram.Snapshot> statistic) {
+        Map<String, Long> values = new LinkedHashMap<>();
+        for (Operation operation : Operation.values()) {
+            values.put(operation.metricName(), statistic.applyAsLong(getLatency(operation)));
+        }
+        return values;
+    }
+}
@@ -0,0 +1,31 @@
+package com.scoreboard.metrics;
+
+import java.util.function.IntSupplier;
+
+/**
+ * Metrics that record nothing; see {@link ScoreboardMetrics#NOOP}.
+ */
+final class NoopMetrics implements ScoreboardMetrics {
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+
+    @Override
+    public long startTimer() {
+        return 0;
+    }
+
+    @Override
+    public void recordLatency(Operation operation, long startNanos) {
+    }
+
+    @Override
+    public void recordFailure(Failure failure) {
+    }
+
+    @Override
+    public void bindGauges(IntSupplier liveGames, IntSupplier activeTeams) {
+    }
+}
@@ -0,0 +1,52 @@
+package com.scoreboard.metrics;
+
+import java.util.Locale;
+import java.util.function.IntSupplier;
+
+/**
+ * Receives operation timings, failures and gauges from a {@code Scoreboard}.
+ * <p>
+ * The scoreboard calls these on every operation, so implementations must be cheap and
+ * thread-safe. {@link #NOOP}, the default, does not even read the clock, so a scoreboard
+ * without metrics pays only for a few trivially inlined calls.
+ */
+public interface ScoreboardMetrics {
+
+    ScoreboardMetrics NOOP = new NoopMetrics();
+
+    enum Operation {
+        START_GAME, START_GAMES, FINISH_GAME, FINISH_GAMES, UPDATE_SCORE, UPDATE_SCORES,
+        COMPARE_AND_SET_SCORE, INGEST_SCORE, INGEST_SCORES, GET_SUMMARY, GET_TOP_GAMES, FIND_GAME, IS_TEAM_PLAYING;
+
+        public String metricName() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    enum Failure {
+        TEAM_ALREADY_PLAYING, GAME_NOT_FOUND, INVALID_ARGUMENT;
+
+        public String metricName() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * Whether anything is recorded; lets callers skip work that only feeds metrics.
+     */
+    boolean isEnabled();
+
+    /**
+     * @return a start timestamp to pass to {@link #recordLatency}
+     */
+    long startTimer();
+
+    void recordLatency(Operation operation, long startNanos);
+
+    void recordFailure(Failure failure);
+
+    /**
+     * Called once by the scoreboard so the implementation can read its gauges on demand.
+     */
+    void bindGauges(IntSupplier liveGames, IntSupplier activeTeams);
+}
@@ -0,0 +1,28 @@
+package com.scoreboard.metrics;
+
+import java.util.Map;
+
+/**
+ * JMX view of {@link LatencyMetrics}. Maps are keyed by operation or failure metric name.
+ */
+public interface ScoreboardMetricsMXBean {
+
+    int getLiveGames();
+
+    int getActiveTeams();
+
+    Map<String, Long> getOperationCounts();
+
+    Map<String, Long> getFailureCounts();
+
+    Map<String, Long> getMedianLatencyNanos();
+
+    Map<String, Long> getP99LatencyNanos();
+
+    Map<String, Long> getMaxLatencyNanos();
+
+    /**
+     * The same report as {@link LatencyMetrics#toText()}.
+     */
+    String getText();
+}
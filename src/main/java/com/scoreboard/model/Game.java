@@ -1,32 +1,147 @@
 package com.scoreboard.model;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.time.Instant;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
- * Represents an immutable thread-safe game state in the scoreboard.
+ * Represents a thread-safe game in the scoreboard. Teams, start time and competition are
+ * fixed; the score of a live game changes with every update.
+ * <p>
+ * Games returned by summaries and snapshots are {@linkplain #frozenCopy() frozen copies}
+ * whose score never changes; updating one throws {@link UnsupportedOperationException}.
+ * <p>
+ * Both sides of the score live in one packed {@code long} (home in the high half, away in
+ * the low half), so updates allocate nothing, readers always see a consistent pair, and
+ * transitions can be made conditional with {@link #compareAndSetScore}.
  */
 public final class Game {
-    private static final int MAX_TEAM_NAME_LENGTH = 50;
+    public static final int MAX_TEAM_NAME_LENGTH = 50;
+    public static final int MAX_COMPETITION_NAME_LENGTH = 50;
+    private static final VarHandle PACKED_SCORE;
+
+    static {
+        try {
+            PACKED_SCORE = MethodHandles.lookup().findVarHandle(Game.class, "packedScore", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
     private final Long id;
     private final String homeTeam;
     private final String awayTeam;
-    private volatile Score score;
+    private volatile long packedScore;
     private final Instant startTime;
+    private final long startSequence;
+    private final String competition;
+    private volatile long sourceVersion = Long.MIN_VALUE;
+    private final boolean frozen;
 
+    /**
+     * Creates a game whose start sequence is its ID.
+     */
     public Game(Long id, String homeTeam, String awayTeam) {
+        this(id, homeTeam, awayTeam, Instant.now());
+    }
+
+    /**
+     * Recreates a game with its original start time and its ID as start sequence.
+     */
+    public Game(Long id, String homeTeam, String awayTeam, Instant startTime) {
+        this(id, homeTeam, awayTeam, startTime, Objects.requireNonNull(id, "Game ID cannot be null"));
+    }
+
+    /**
+     * @param startSequence position in start order, unique per scoreboard; later starts have higher
+     *                      values and rank first among games with the same total score
+     */
+    public Game(Long id, String homeTeam, String awayTeam, Instant startTime, long startSequence) {
+        this(id, homeTeam, awayTeam, startTime, startSequence, null);
+    }
+
+    /**
+     * @param competition competition or group the game belongs to, e.g. {@code "Group A"},
+     *                    or {@code null} if none
+     */
+    public Game(Long id, String homeTeam, String awayTeam, Instant startTime, long startSequence, String competition) {
         this.id = Objects.requireNonNull(id, "Game ID cannot be null");
         this.homeTeam = validateAndNormalizeTeamName(homeTeam, "Home");
         this.awayTeam = validateAndNormalizeTeamName(awayTeam, "Away");
         if (this.homeTeam.equalsIgnoreCase(this.awayTeam)) {
             throw new IllegalArgumentException("Home and away teams cannot be the same");
         }
-        this.score = Score.initial();
-        this.startTime = Instant.now();
+        this.startTime = Objects.requireNonNull(startTime, "Start time cannot be null");
+        this.startSequence = startSequence;
+        this.competition = competition == null ? null : validateAndNormalizeCompetition(competition);
+        this.frozen = false;
+    }
+
+    private Game(Game source, long packedScore) {
+        this.id = source.id;
+        this.homeTeam = source.homeTeam;
+        this.awayTeam = source.awayTeam;
+        this.packedScore = packedScore;
+        this.startTime = source.startTime;
+        this.startSequence = source.startSequence;
+        this.competition = source.competition;
+        this.sourceVersion = source.sourceVersion;
+        this.frozen = true;
+    }
+
+    /**
+     * Returns a copy holding the current score that can no longer be updated, e.g. for a
+     * published snapshot whose contents must not change after its version is assigned.
+     */
+    public Game frozenCopy() {
+        return frozen ? this : new Game(this, packedScore);
+    }
+
+    public boolean isFrozen() {
+        return frozen;
     }
 
     public void updateScore(int homeScore, int awayScore) {
-        this.score = new Score(homeScore, awayScore);
+        checkNotFrozen();
+        Score.validate(homeScore, awayScore);
+        packedScore = pack(homeScore, awayScore);
+    }
+
+    public void updateScore(Score score) {
+        checkNotFrozen();
+        Objects.requireNonNull(score, "Score cannot be null");
+        packedScore = pack(score.home(), score.away());
+    }
+
+    /**
+     * Sets the score only if {@code sourceVersion} is newer than the version of the last score
+     * set this way, e.g. a feed provider's sequence number or timestamp. Duplicate and
+     * out-of-order deliveries are ignored, so the score never moves back to an older state.
+     *
+     * @return {@code true} if the score was changed
+     */
+    public synchronized boolean updateScore(int homeScore, int awayScore, long sourceVersion) {
+        checkNotFrozen();
+        Score.validate(homeScore, awayScore);
+        if (sourceVersion <= this.sourceVersion) {
+            return false;
+        }
+        packedScore = pack(homeScore, awayScore);
+        this.sourceVersion = sourceVersion;
+        return true;
+    }
+
+    /**
+     * Sets the score only if it is still {@code expectedHome}-{@code expectedAway}.
+     *
+     * @return {@code true} if the score was changed
+     */
+    public boolean compareAndSetScore(int expectedHome, int expectedAway, int homeScore, int awayScore) {
+        checkNotFrozen();
+        Score.validate(homeScore, awayScore);
+        return PACKED_SCORE.compareAndSet(this, pack(expectedHome, expectedAway), pack(homeScore, awayScore));
     }
 
     public Long getId() {
@@ -42,24 +157,51 @@ public final class Game {
     }
 
     public int getTotalScore() {
-        return score.total();
+        long packed = packedScore;
+        return home(packed) + away(packed);
     }
 
     public int getHomeScore() {
-        return score.home();
+        return home(packedScore);
     }
 
     public int getAwayScore() {
-        return score.away();
+        return away(packedScore);
+    }
+
+    /**
+     * Materialises the current score; prefer the primitive getters on hot paths.
+     */
+    public Score getScore() {
+        long packed = packedScore;
+        return new Score(home(packed), away(packed));
     }
 
     public Instant getStartTime() {
         return startTime;
     }
 
+    public long getStartSequence() {
+        return startSequence;
+    }
+
+    /**
+     * Returns the source version of the last score set through {@link #updateScore(int, int, long)},
+     * or {@link Long#MIN_VALUE} if there was none. Readable without locking, so stale updates can
+     * be rejected before any work is done.
+     */
+    public long getSourceVersion() {
+        return sourceVersion;
+    }
+
+    public Optional<String> getCompetition() {
+        return Optional.ofNullable(competition);
+    }
+
     @Override
     public String toString() {
-        return String.format("%s %d - %d %s ", homeTeam, score.home(),score.away(), awayTeam);
+        long packed = packedScore;
+        return String.format("%s %d - %d %s ", homeTeam, home(packed), away(packed), awayTeam);
     }
 
     @Override
@@ -74,6 +216,48 @@ public final class Game {
         return Objects.hash(id);
     }
 
+    private void checkNotFrozen() {
+        if (frozen) {
+            throw new UnsupportedOperationException("Cannot update a frozen copy of a game");
+        }
+    }
+
+    private static long pack(int homeScore, int awayScore) {
+        return ((long) homeScore << 32) | (awayScore & 0xFFFFFFFFL);
+    }
+
+    private static int home(long packed) {
+        return (int) (packed >>> 32);
+    }
+
+    private static int away(long packed) {
+        return (int) packed;
+    }
+
+    /**
+     * Folds a team or competition name to the key the scoreboard identifies it by: trimmed,
+     * with characters folded the way {@code String.equalsIgnoreCase} compares them, so
+     * "Spain" and " spain" are the same team.
+     */
+    public static String canonicalName(String name) {
+        String trimmed = name.trim();
+        for (int i = 0; i < trimmed.length(); i++) {
+            char c = trimmed.charAt(i);
+            if (fold(c) != c) {
+                char[] folded = trimmed.toCharArray();
+                for (int j = i; j < folded.length; j++) {
+                    folded[j] = fold(folded[j]);
+                }
+                return new String(folded);
+            }
+        }
+        return trimmed;
+    }
+
+    private static char fold(char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
     private String validateAndNormalizeTeamName(String teamName, String teamType) {
         Objects.requireNonNull(teamName, teamType + " team name cannot be null");
 
@@ -90,4 +274,18 @@ public final class Game {
 
         return trimmed;
     }
+
+    private static String validateAndNormalizeCompetition(String competition) {
+        String trimmed = competition.trim();
+        if (trimmed.isEmpty()) {
+            throw new IllegalArgumentException("Competition name cannot be empty");
+        }
+        if (trimmed.length() > MAX_COMPETITION_NAME_LENGTH) {
+            throw new IllegalArgumentException(String.format(
+                    "Competition name too long (max %d characters, got %d)",
+                    MAX_COMPETITION_NAME_LENGTH, trimmed.length())
+            );
+        }
+        return trimmed;
+    }
 }
@@ -7,6 +7,15 @@ public record Score(int home, int away) {
     private static final int MAX_REALISTIC_SCORE = 50;
 
     public Score {
+        validate(home, away);
+    }
+
+    /**
+     * Checks a score without allocating a {@code Score}.
+     *
+     * @throws IllegalArgumentException if either side is negative or unrealistically high
+     */
+    public static void validate(int home, int away) {
         validateScore(home, "Home");
         validateScore(away, "Away");
     }
@@ -0,0 +1,144 @@
+package com.scoreboard.replication;
+
+import com.scoreboard.event.ScoreboardEvent;
+
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The primary's recent change events, in sequence order, for shipping to replicas.
+ * <p>
+ * Events of different games can reach the subscriber slightly out of sequence order, so they
+ * are parked in a ring indexed by sequence and only become visible to replicas once every
+ * earlier sequence has arrived. The ring keeps the last {@code capacity} events; a replica
+ * that falls further behind has to resynchronise from a snapshot.
+ */
+final class ReplicationLog implements Flow.Subscriber<ScoreboardEvent> {
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition committedAdvanced = lock.newCondition();
+    private final ScoreboardEvent[] ring;
+    private final int mask;
+    private long baseSequence;
+    private long committedSequence;
+    private Flow.Subscription subscription;
+
+    ReplicationLog(int capacity) {
+        if (capacity < 1 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Log capacity must be a positive power of two (got: " + capacity + ")");
+        }
+        this.ring = new ScoreboardEvent[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Holds events back until {@link #start(long)} says where the log begins.
+     */
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+    }
+
+    /**
+     * Starts accepting events once subscribed.
+     *
+     * @param baseSequence last sequence already reflected in the scoreboard state, read after
+     *                     subscribing; only later events are kept
+     */
+    void start(long baseSequence) {
+        lock.lock();
+        try {
+            this.baseSequence = baseSequence;
+            this.committedSequence = baseSequence;
+        } finally {
+            lock.unlock();
+        }
+        subscription.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onNext(ScoreboardEvent event) {
+        lock.lock();
+        try {
+            if (event.sequence() <= baseSequence) {
+                return;
+            }
+            ring[(int) (event.sequence() & mask)] = event;
+            long previous = committedSequence;
+            ScoreboardEvent next;
+            while ((next = ring[(int) ((committedSequence + 1) & mask)]) != null
+                    && next.sequence() == committedSequence + 1) {
+                committedSequence++;
+            }
+            if (committedSequence != previous) {
+                committedAdvanced.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+    }
+
+    @Override
+    public void onComplete() {
+    }
+
+    void cancel() {
+        if (subscription != null) {
+            subscription.cancel();
+        }
+    }
+
+    long getCommittedSequence() {
+        lock.lock();
+        try {
+            return committedSequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Whether a replica can still stream from {@code sequence} without a snapshot.
+     */
+    boolean canServeFrom(long sequence) {
+        lock.lock();
+        try {
+            return sequence > baseSequence
+                    && sequence > committedSequence - ring.length
+                    && sequence <= committedSequence + 1;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits for the event with the given sequence to be committed.
+     *
+     * @return the event, or {@code null} if the timeout elapsed first
+     * @throws IllegalStateException if the event has already been evicted
+     */
+    ScoreboardEvent await(long sequence, long timeout, TimeUnit unit) throws InterruptedException {
+        long remainingNanos = unit.toNanos(timeout);
+        lock.lock();
+        try {
+            while (committedSequence < sequence) {
+                if (remainingNanos <= 0) {
+                    return null;
+                }
+                remainingNanos = committedAdvanced.awaitNanos(remainingNanos);
+            }
+            ScoreboardEvent event = ring[(int) (sequence & mask)];
+            if (sequence <= baseSequence || event == null || event.sequence() != sequence) {
+                throw new IllegalStateException("Event " + sequence + " is no longer retained");
+            }
+            return event;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.scoreboard.replication;
+
+import com.scoreboard.Scoreboard;
+import com.scoreboard.event.BackpressurePolicy;
+import com.scoreboard.event.ScoreboardEvent;
+import com.scoreboard.model.Game;
+import com.scoreboard.model.Score;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ships a scoreboard's changes to any number of {@link ReplicationReplica}s over TCP.
+ * <p>
+ * The primary subscribes to the scoreboard's change events without dropping any and keeps
+ * the most recent ones in a {@link ReplicationLog}. A reconnecting replica that is still
+ * within the log resumes from its last applied sequence; a new replica, one that followed
+ * a different primary, or one that fell out of the log receives a snapshot of the live
+ * games first. Each replica is served by its own virtual thread, so a slow replica only
+ * delays itself; once it falls out of the log its connection is dropped and it resyncs.
+ */
+public final class ReplicationPrimary implements Closeable {
+    public static final int DEFAULT_LOG_CAPACITY = 65_536;
+
+    private static final long POLL_MILLIS = 200;
+
+    private final Scoreboard scoreboard;
+    private final ReplicationLog log;
+    private final long primaryId;
+    private final ServerSocket serverSocket;
+    private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+    private volatile boolean closed;
+
+    private ReplicationPrimary(Scoreboard scoreboard, ServerSocket serverSocket, int logCapacity) {
+        this.scoreboard = scoreboard;
+        this.serverSocket = serverSocket;
+        this.primaryId = ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE);
+        this.log = new ReplicationLog(logCapacity);
+    }
+
+    /**
+     * Starts serving replicas on the given port of the loopback address; {@code 0} picks a free port.
+     */
+    public static ReplicationPrimary start(Scoreboard scoreboard, int port) throws IOException {
+        return start(scoreboard, new ServerSocket(port, 50, InetAddress.getLoopbackAddress()), DEFAULT_LOG_CAPACITY);
+    }
+
+    /**
+     * Starts serving replicas on an already bound server socket, keeping the last
+     * {@code logCapacity} changes (a power of two) for replicas to resume from.
+     */
+    public static ReplicationPrimary start(Scoreboard scoreboard, ServerSocket serverSocket, int logCapacity) {
+        Objects.requireNonNull(scoreboard, "Scoreboard cannot be null");
+        Objects.requireNonNull(serverSocket, "Server socket cannot be null");
+        ReplicationPrimary primary = new ReplicationPrimary(scoreboard, serverSocket, logCapacity);
+        scoreboard.subscribe(primary.log, logCapacity, BackpressurePolicy.BLOCK);
+        // Every event after this sequence reaches the log; everything up to it is already in the games
+        primary.log.start(scoreboard.getLastEventSequence());
+        Thread.ofPlatform().daemon().name("replication-primary-" + serverSocket.getLocalPort())
+                .start(primary::acceptLoop);
+        return primary;
+    }
+
+    /**
+     * Identifies this primary instance; replicas resume only against the primary they followed.
+     */
+    public long getPrimaryId() {
+        return primaryId;
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public int getReplicaCount() {
+        return connections.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        log.cancel();
+        serverSocket.close();
+        for (Socket connection : connections) {
+            connection.close();
+        }
+    }
+
+    private void acceptLoop() {
+        while (!closed) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                connections.add(socket);
+                Thread.ofVirtual().name("replication-stream").start(() -> serve(socket));
+            } catch (IOException e) {
+                if (!closed) {
+                    System.getLogger(ReplicationPrimary.class.getName())
+                            .log(System.Logger.Level.WARNING, "Failed to accept replica connection", e);
+                }
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (socket;
+             DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()))) {
+            long replicaPrimaryId = in.readLong();
+            long lastApplied = in.readLong();
+
+            long next;
+            if (replicaPrimaryId == primaryId && lastApplied >= 0 && log.canServeFrom(lastApplied + 1)) {
+                next = lastApplied + 1;
+            } else {
+                next = sendSnapshot(out) + 1;
+            }
+            out.flush();
+            stream(out, next);
+        } catch (IOException | IllegalStateException e) {
+            // Replica went away or fell out of the log; it reconnects and resyncs
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            connections.remove(socket);
+        }
+    }
+
+    /**
+     * Sends the live games as start and score frames.
+     *
+     * @return the sequence the snapshot covers
+     */
+    private long sendSnapshot(DataOutputStream out) throws IOException {
+        // Changes reach the games map before their sequence is assigned, let alone committed,
+        // so games read from it afterwards include at least every change up to this sequence.
+        // Later changes they already include are streamed again and re-applied idempotently.
+        long sequence = log.getCommittedSequence();
+        List<Game> games = scoreboard.getLiveGames();
+
+        out.writeByte(ReplicationProtocol.SNAPSHOT_BEGIN);
+        out.writeLong(primaryId);
+        for (Game game : games) {
+            // Version first: a racing feed update can then only leave the score ahead of it,
+            // and the streamed update is still accepted by the replica
+            long sourceVersion = game.getSourceVersion();
+            Score score = game.getScore();
+            ReplicationProtocol.writeEvent(out, new ScoreboardEvent.GameStarted(sequence, game.getId(),
+                    game.getHomeTeam(), game.getAwayTeam(), game.getStartTime(), game.getStartSequence(),
+                    game.getCompetition().orElse(null)));
+            ReplicationProtocol.writeEvent(out, new ScoreboardEvent.ScoreUpdated(sequence, game.getId(),
+                    score.home(), score.away(), sourceVersion));
+        }
+        out.writeByte(ReplicationProtocol.SNAPSHOT_END);
+        out.writeLong(sequence);
+        return sequence;
+    }
+
+    /**
+     * Streams committed changes from {@code next} onwards, flushing whenever the replica has caught up.
+     */
+    private void stream(DataOutputStream out, long next) throws IOException, InterruptedException {
+        while (!closed) {
+            ScoreboardEvent event = log.await(next, 0, TimeUnit.MILLISECONDS);
+            if (event == null) {
+                out.flush();
+                event = log.await(next, POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (event == null) {
+                    continue;
+                }
+            }
+            ReplicationProtocol.writeEvent(out, event);
+            next++;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.scoreboard.replication;
+
+import com.scoreboard.event.ScoreboardEvent;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+
+/**
+ * Wire format between a {@link ReplicationPrimary} and its replicas.
+ * <p>
+ * A replica opens the connection with {@code [primary ID][last applied sequence]}, using
+ * {@code 0} and {@code -1} when it has no state. The primary then either streams change
+ * frames from the next sequence, or sends {@code SNAPSHOT_BEGIN}, one start and one score
+ * frame per live game, and {@code SNAPSHOT_END} with the sequence the snapshot covers,
+ * followed by the change frames after it.
+ */
+final class ReplicationProtocol {
+    static final byte SNAPSHOT_BEGIN = 0;
+    static final byte GAME_STARTED = 1;
+    static final byte SCORE_UPDATED = 2;
+    static final byte GAME_FINISHED = 3;
+    static final byte SNAPSHOT_END = 4;
+
+    private ReplicationProtocol() {
+    }
+
+    static void writeEvent(DataOutputStream out, ScoreboardEvent event) throws IOException {
+        switch (event) {
+            case ScoreboardEvent.GameStarted started -> {
+                out.writeByte(GAME_STARTED);
+                out.writeLong(started.sequence());
+                out.writeLong(started.gameId());
+                out.writeLong(started.startSequence());
+                out.writeLong(started.startTime().getEpochSecond());
+                out.writeInt(started.startTime().getNano());
+                out.writeUTF(started.homeTeam());
+                out.writeUTF(started.awayTeam());
+                out.writeUTF(started.competition() == null ? "" : started.competition());
+            }
+            case ScoreboardEvent.ScoreUpdated updated -> {
+                out.writeByte(SCORE_UPDATED);
+                out.writeLong(updated.sequence());
+                out.writeLong(updated.gameId());
+                out.writeShort(updated.homeScore());
+                out.writeShort(updated.awayScore());
+                out.writeLong(updated.sourceVersion());
+            }
+            case ScoreboardEvent.GameFinished finished -> {
+                out.writeByte(GAME_FINISHED);
+                out.writeLong(finished.sequence());
+                out.writeLong(finished.gameId());
+                out.writeLong(finished.finishTime().getEpochSecond());
+                out.writeInt(finished.finishTime().getNano());
+            }
+        }
+    }
+
+    /**
+     * Reads the rest of a change frame whose type byte has already been read.
+     */
+    static ScoreboardEvent readEvent(byte type, DataInputStream in) throws IOException {
+        long sequence = in.readLong();
+        long gameId = in.readLong();
+        return switch (type) {
+            case GAME_STARTED -> {
+                long startSequence = in.readLong();
+                Instant startTime = Instant.ofEpochSecond(in.readLong(), in.readInt());
+                String homeTeam = in.readUTF();
+                String awayTeam = in.readUTF();
+                String competition = in.readUTF();
+                yield new ScoreboardEvent.GameStarted(sequence, gameId, homeTeam, awayTeam, startTime, startSequence,
+                        competition.isEmpty() ? null : competition);
+            }
+            case SCORE_UPDATED -> new ScoreboardEvent.ScoreUpdated(sequence, gameId, in.readShort(), in.readShort(),
+                    in.readLong());
+            case GAME_FINISHED -> new ScoreboardEvent.GameFinished(sequence, gameId,
+                    Instant.ofEpochSecond(in.readLong(), in.readInt()));
+            default -> throw new IOException("Unknown replication frame type: " + type);
+        };
+    }
+}
@@ -0,0 +1,186 @@
+package com.scoreboard.replication;
+
+import com.scoreboard.Scoreboard;
+import com.scoreboard.event.ScoreboardEvent;
+import com.scoreboard.model.Game;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Keeps a local {@link Scoreboard} in sync with a {@link ReplicationPrimary}.
+ * <p>
+ * Changes are applied with {@link Scoreboard#applyReplicated}, so the local board keeps the
+ * primary's game IDs and summary order and can be read like any scoreboard, including through
+ * its own snapshots and change events. The replica reconnects with backoff whenever the
+ * connection drops and resumes from its last applied sequence, or resyncs from a snapshot
+ * if the primary can no longer serve it. Writes to the local board other than replication
+ * are overwritten by the next resync. A change that fails to apply, e.g. after the local
+ * board diverged, or a frame that cannot be decoded is counted, drops the connection and
+ * forces a resync on the next one.
+ */
+public final class ReplicationReplica implements Closeable {
+    private static final long MIN_BACKOFF_MILLIS = 50;
+    private static final long MAX_BACKOFF_MILLIS = 5_000;
+
+    private final Scoreboard scoreboard;
+    private final InetSocketAddress primaryAddress;
+    private final Thread thread;
+    private volatile long primaryId;
+    private volatile long lastAppliedSequence;
+    private volatile int resyncCount;
+    private volatile int failureCount;
+    private volatile RuntimeException lastFailure;
+    private volatile boolean connected;
+    private volatile boolean closed;
+    private volatile Socket socket;
+
+    private ReplicationReplica(Scoreboard scoreboard, InetSocketAddress primaryAddress,
+                               long primaryId, long lastAppliedSequence) {
+        this.scoreboard = scoreboard;
+        this.primaryAddress = primaryAddress;
+        this.primaryId = primaryId;
+        this.lastAppliedSequence = lastAppliedSequence;
+        this.thread = Thread.ofPlatform().daemon().name("replication-replica").unstarted(this::run);
+    }
+
+    /**
+     * Starts following the primary with an empty position, so the first connection resyncs.
+     */
+    public static ReplicationReplica start(Scoreboard scoreboard, InetSocketAddress primaryAddress) {
+        return start(scoreboard, primaryAddress, 0, -1);
+    }
+
+    /**
+     * Starts following the primary from a position saved by an earlier replica of the same
+     * board, e.g. after a restart that recovered the board from its journal.
+     */
+    public static ReplicationReplica start(Scoreboard scoreboard, InetSocketAddress primaryAddress,
+                                           long primaryId, long lastAppliedSequence) {
+        Objects.requireNonNull(scoreboard, "Scoreboard cannot be null");
+        Objects.requireNonNull(primaryAddress, "Primary address cannot be null");
+        ReplicationReplica replica = new ReplicationReplica(scoreboard, primaryAddress, primaryId, lastAppliedSequence);
+        replica.thread.start();
+        return replica;
+    }
+
+    /**
+     * Returns the ID of the primary this replica last synced from, or {@code 0} if none.
+     */
+    public long getPrimaryId() {
+        return primaryId;
+    }
+
+    /**
+     * Returns the primary's sequence of the last change applied here, or {@code -1} before the first sync.
+     */
+    public long getLastAppliedSequence() {
+        return lastAppliedSequence;
+    }
+
+    /**
+     * Returns how many times this replica replaced its state with a snapshot.
+     */
+    public int getResyncCount() {
+        return resyncCount;
+    }
+
+    /**
+     * Returns how many times applying the primary's stream failed and forced a resync.
+     */
+    public int getFailureCount() {
+        return failureCount;
+    }
+
+    /**
+     * Returns the most recent failure to apply the primary's stream, or {@code null} if there was none.
+     */
+    public RuntimeException getLastFailure() {
+        return lastFailure;
+    }
+
+    public boolean isConnected() {
+        return connected;
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        Socket current = socket;
+        if (current != null) {
+            current.close();
+        }
+        thread.interrupt();
+    }
+
+    private void run() {
+        long backoffMillis = MIN_BACKOFF_MILLIS;
+        while (!closed) {
+            try (Socket current = new Socket()) {
+                socket = current;
+                current.connect(primaryAddress);
+                current.setTcpNoDelay(true);
+                follow(current);
+            } catch (IOException e) {
+                // Primary unreachable or connection lost; retry below
+            } catch (RuntimeException e) {
+                // The local board no longer matches the stream; start over from a snapshot
+                lastFailure = e;
+                failureCount++;
+                lastAppliedSequence = -1;
+            } finally {
+                connected = false;
+            }
+            if (closed) {
+                return;
+            }
+            try {
+                Thread.sleep(backoffMillis);
+            } catch (InterruptedException e) {
+                return;
+            }
+            backoffMillis = Math.min(backoffMillis * 2, MAX_BACKOFF_MILLIS);
+        }
+    }
+
+    private void follow(Socket current) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(current.getOutputStream()));
+        out.writeLong(primaryId);
+        out.writeLong(lastAppliedSequence);
+        out.flush();
+        connected = true;
+
+        DataInputStream in = new DataInputStream(new BufferedInputStream(current.getInputStream()));
+        while (!closed) {
+            byte type = in.readByte();
+            switch (type) {
+                case ReplicationProtocol.SNAPSHOT_BEGIN -> {
+                    primaryId = in.readLong();
+                    lastAppliedSequence = -1;
+                    for (Game game : scoreboard.getLiveGames()) {
+                        scoreboard.applyReplicated(new ScoreboardEvent.GameFinished(0, game.getId(), Instant.now()));
+                    }
+                }
+                case ReplicationProtocol.SNAPSHOT_END -> {
+                    lastAppliedSequence = in.readLong();
+                    resyncCount++;
+                }
+                default -> {
+                    ScoreboardEvent event = ReplicationProtocol.readEvent(type, in);
+                    scoreboard.applyReplicated(event);
+                    if (lastAppliedSequence >= 0) {
+                        lastAppliedSequence = event.sequence();
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.scoreboard;
+
+import com.scoreboard.model.Game;
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AsyncScoreboard")
+class AsyncScoreboardTest {
+
+    private Scoreboard scoreboard;
+    private ExecutorService executor;
+    private AsyncScoreboard async;
+
+    @BeforeEach
+    void setUp() {
+        scoreboard = new Scoreboard();
+        executor = Executors.newFixedThreadPool(4);
+        async = new AsyncScoreboard(scoreboard, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("should complete successful operations with their values")
+    void completesWithValues() {
+        Game game = async.startGame("Spain", "Brazil").join().value();
+
+        OperationResult<Game> updated = async.updateScore(game.getId(), 2, 1).join();
+        OperationResult<Boolean> corrected = async.compareAndSetScore(game.getId(), 2, 1, 2, 0).join();
+        OperationResult<IngestOutcome> ingested = async.ingestScore(game.getId(), 3, 0, 1).join();
+        List<Game> summary = async.getSummary().join();
+        OperationResult<Game> finished = async.finishGame(game.getId()).join();
+
+        assertAll("Success",
+                () -> assertTrue(updated.isSuccess()),
+                () -> assertEquals(3, updated.value().getTotalScore()),
+                () -> assertTrue(corrected.value()),
+                () -> assertEquals(IngestOutcome.ACCEPTED, ingested.value()),
+                () -> assertEquals(List.of(game), summary),
+                () -> assertEquals(game, finished.value()),
+                () -> assertTrue(async.findGame(game.getId()).join().isEmpty())
+        );
+    }
+
+    @Test
+    @DisplayName("should report expected failures as results instead of exceptions")
+    void reportsFailuresAsResults() {
+        Game game = scoreboard.startGame("Spain", "Brazil");
+
+        CompletableFuture<OperationResult<Game>> conflict = async.startGame("Germany", "spain");
+        CompletableFuture<OperationResult<Game>> missing = async.updateScore(999L, 1, 0);
+        CompletableFuture<OperationResult<Game>> invalid = async.updateScore(game.getId(), -1, 0);
+        CompletableFuture<OperationResult<Game>> blank = async.startGame(" ", "Italy");
+        CompletableFuture<OperationResult<Game>> unfinished = async.finishGame(999L);
+        CompletableFuture.allOf(conflict, missing, invalid, blank, unfinished).join();
+
+        assertAll("Failures",
+                () -> assertEquals(OperationResult.Status.TEAM_ALREADY_PLAYING, conflict.join().status()),
+                () -> assertTrue(conflict.join().message().contains("spain")),
+                () -> assertEquals(OperationResult.Status.GAME_NOT_FOUND, missing.join().status()),
+                () -> assertTrue(missing.join().message().contains("999")),
+                () -> assertEquals(OperationResult.Status.INVALID_ARGUMENT, invalid.join().status()),
+                () -> assertEquals(OperationResult.Status.INVALID_ARGUMENT, blank.join().status()),
+                () -> assertEquals(OperationResult.Status.GAME_NOT_FOUND, unfinished.join().status()),
+                () -> assertFalse(scoreboard.isTeamPlaying("Germany")),
+                () -> assertEquals(0, game.getTotalScore())
+        );
+    }
+
+    @Test
+    @DisplayName("should reject null arguments before submitting the operation")
+    void rejectsNullArguments() {
+        assertAll("Null arguments",
+                () -> assertThrows(NullPointerException.class, () -> async.startGame(null, "Brazil")),
+                () -> assertThrows(NullPointerException.class, () -> async.startGame("Spain", null)),
+                () -> assertThrows(NullPointerException.class, () -> async.startGame("Spain", "Brazil", null)),
+                () -> assertFalse(scoreboard.isTeamPlaying("Spain"))
+        );
+    }
+
+    @Test
+    @DisplayName("should throw routine failures from the scoreboard without stack traces")
+    void throwsStacklessExceptions() {
+        scoreboard.startGame("Spain", "Brazil");
+
+        GameNotFoundException notFound = assertThrows(GameNotFoundException.class,
+                () -> scoreboard.updateScore(999L, 1, 0));
+        TeamAlreadyPlayingException conflict = assertThrows(TeamAlreadyPlayingException.class,
+                () -> scoreboard.startGame("Brazil", "Italy"));
+
+        assertAll("Stackless",
+                () -> assertEquals(0, notFound.getStackTrace().length),
+                () -> assertEquals(0, conflict.getStackTrace().length),
+                () -> assertEquals(999L, notFound.getGameId()),
+                () -> assertTrue(conflict.getMessage().contains("Brazil")),
+                () -> assertTrue(new GameNotFoundException(1L).getStackTrace().length > 0,
+                        "Exceptions created by callers keep their stack trace")
+        );
+    }
+}
@@ -0,0 +1,112 @@
+package com.scoreboard;
+
+import com.scoreboard.model.Game;
+import org.junit.jupiter.api.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LongGameMap")
+class LongGameMapTest {
+
+    private LongGameMap map;
+
+    @BeforeEach
+    void setUp() {
+        map = new LongGameMap();
+    }
+
+    @Test
+    @DisplayName("should store, find and remove games by primitive ID")
+    void storesFindsAndRemoves() {
+        Game game = game(42);
+
+        assertAll("Basic operations",
+                () -> assertNull(map.putIfAbsent(42, game)),
+                () -> assertSame(game, map.putIfAbsent(42, game(42))),
+                () -> assertSame(game, map.get(42)),
+                () -> assertEquals(1, map.size()),
+                () -> assertFalse(map.remove(42, game(42)), "Only the mapped instance is removed"),
+                () -> assertTrue(map.remove(42, game)),
+                () -> assertNull(map.get(42)),
+                () -> assertEquals(0, map.size())
+        );
+    }
+
+    @Test
+    @DisplayName("should reject the reserved ID 0")
+    void rejectsReservedId() {
+        assertThrows(IllegalArgumentException.class, () -> map.putIfAbsent(0, game(1)));
+    }
+
+    @Test
+    @DisplayName("should run updates only for present games")
+    void runsUpdatesOnlyForPresentGames() {
+        Game game = game(7);
+        map.putIfAbsent(7, game);
+
+        assertAll("Updates",
+                () -> assertSame(game, map.updateIfPresent(7, g -> g.updateScore(1, 0))),
+                () -> assertEquals(1, game.getTotalScore()),
+                () -> assertNull(map.updateIfPresent(8, g -> fail("Should not run for missing game")))
+        );
+    }
+
+    @Test
+    @DisplayName("should match a reference map across random inserts and removals")
+    void matchesReferenceMap() {
+        Map<Long, Game> reference = new HashMap<>();
+        Random random = new Random(1234);
+
+        for (int i = 0; i < 50_000; i++) {
+            long id = 1 + random.nextInt(2_000);
+            if (random.nextBoolean()) {
+                Game game = game(id);
+                Game expected = reference.putIfAbsent(id, game);
+                assertSame(expected, map.putIfAbsent(id, game));
+            } else {
+                Game existing = reference.get(id);
+                boolean removed = existing != null && reference.remove(id, existing);
+                assertEquals(removed, existing != null && map.remove(id, existing));
+            }
+        }
+
+        assertEquals(reference.size(), map.size());
+        for (long id = 1; id <= 2_000; id++) {
+            assertSame(reference.get(id), map.get(id), "ID " + id);
+        }
+    }
+
+    @Test
+    @DisplayName("should handle concurrent inserts and lookups")
+    void handlesConcurrentInsertsAndLookups() {
+        int numThreads = 8;
+        int perThread = 5_000;
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(numThreads)) {
+            for (int t = 0; t < numThreads; t++) {
+                long base = 1 + (long) t * perThread;
+                executor.submit(() -> {
+                    for (long id = base; id < base + perThread; id++) {
+                        map.putIfAbsent(id, game(id));
+                        assertNotNull(map.get(id));
+                    }
+                });
+            }
+        }
+
+        assertEquals(numThreads * perThread, map.size());
+        for (long id = 1; id <= numThreads * perThread; id++) {
+            assertEquals(id, map.get(id).getId());
+        }
+    }
+
+    private static Game game(long id) {
+        return new Game(id, "Home" + id, "Away" + id);
+    }
+}
@@ -0,0 +1,178 @@
+package com.scoreboard;
+
+import com.scoreboard.model.Game;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("OffHeapScoreboard")
+class OffHeapScoreboardTest {
+
+    private OffHeapScoreboard scoreboard;
+
+    @BeforeEach
+    void setUp() {
+        scoreboard = new OffHeapScoreboard();
+    }
+
+    @Test
+    @DisplayName("should start, update, find and finish games through views")
+    void supportsGameLifecycle() {
+        Game game = scoreboard.startGame("Spain", "Brazil");
+        scoreboard.updateScore(game.getId(), 2, 1);
+
+        Game view = scoreboard.findGame(game.getId()).orElseThrow();
+
+        assertAll("Lifecycle",
+                () -> assertEquals(game, view),
+                () -> assertEquals("Spain", view.getHomeTeam()),
+                () -> assertEquals("Brazil", view.getAwayTeam()),
+                () -> assertEquals(game.getStartTime(), view.getStartTime()),
+                () -> assertEquals(3, view.getTotalScore()),
+                () -> assertEquals(0, game.getTotalScore(), "Views are not updated after the call"),
+                () -> assertTrue(scoreboard.isTeamPlaying("spain")),
+                () -> assertTrue(scoreboard.finishGame(game.getId())),
+                () -> assertFalse(scoreboard.finishGame(game.getId())),
+                () -> assertFalse(scoreboard.isTeamPlaying("Spain")),
+                () -> assertTrue(scoreboard.findGame(game.getId()).isEmpty()),
+                () -> assertThrows(GameNotFoundException.class, () -> scoreboard.updateScore(game.getId(), 1, 1))
+        );
+    }
+
+    @Test
+    @DisplayName("should reject teams that are already playing and invalid scores")
+    void rejectsConflictsAndInvalidScores() {
+        Game game = scoreboard.startGame("Spain", "Brazil");
+
+        assertAll("Validation",
+                () -> assertThrows(TeamAlreadyPlayingException.class, () -> scoreboard.startGame("Germany", "BRAZIL")),
+                () -> assertFalse(scoreboard.isTeamPlaying("Germany"), "Home reservation is rolled back"),
+                () -> assertThrows(IllegalArgumentException.class, () -> scoreboard.updateScore(game.getId(), -1, 0)),
+                () -> assertEquals(1, scoreboard.getGameCount())
+        );
+    }
+
+    @Test
+    @DisplayName("should order the summary like the on-heap scoreboard and page it")
+    void ordersAndPagesSummary() {
+        Scoreboard reference = new Scoreboard();
+        String[][] fixtures = {
+                {"Mexico", "Canada"}, {"Spain", "Brazil"}, {"Germany", "France"},
+                {"Uruguay", "Italy"}, {"Argentina", "Australia"}
+        };
+        int[][] scores = {{0, 5}, {10, 2}, {2, 2}, {6, 6}, {3, 1}};
+        List<Long> expectedIds = new ArrayList<>();
+        for (int i = 0; i < fixtures.length; i++) {
+            Game game = scoreboard.startGame(fixtures[i][0], fixtures[i][1]);
+            scoreboard.updateScore(game.getId(), scores[i][0], scores[i][1]);
+            Game referenceGame = reference.startGame(fixtures[i][0], fixtures[i][1]);
+            reference.updateScore(referenceGame.getId(), scores[i][0], scores[i][1]);
+        }
+        reference.getSummary().forEach(game -> expectedIds.add(game.getId()));
+
+        assertAll("Summary",
+                () -> assertEquals(expectedIds, scoreboard.getSummary().stream().map(Game::getId).toList()),
+                () -> assertEquals(expectedIds.subList(1, 3),
+                        scoreboard.getSummary(1, 2).stream().map(Game::getId).toList()),
+                () -> assertEquals(expectedIds.subList(0, 2),
+                        scoreboard.getTopGames(2).stream().map(Game::getId).toList()),
+                () -> assertTrue(scoreboard.getSummary(10, 5).isEmpty()),
+                () -> assertThrows(IllegalArgumentException.class, () -> scoreboard.getSummary(-1, 5))
+        );
+    }
+
+    @Test
+    @DisplayName("should accept boxed IDs and find games by team like the on-heap scoreboard")
+    void supportsScoreboardSignatures() {
+        Game game = scoreboard.startGame("Spain", "Brazil");
+        Long gameId = game.getId();
+        scoreboard.updateScore(gameId, 1, 0);
+
+        assertAll("Shared signatures",
+                () -> assertEquals(1, scoreboard.findGame(gameId).orElseThrow().getTotalScore()),
+                () -> assertEquals(game, scoreboard.findGameByTeam("BRAZIL").orElseThrow()),
+                () -> assertTrue(scoreboard.findGameByTeam("Germany").isEmpty()),
+                () -> assertEquals(List.of(game), scoreboard.getAllGames()),
+                () -> assertThrows(NullPointerException.class, () -> scoreboard.findGame((Long) null)),
+                () -> assertTrue(scoreboard.finishGame(gameId))
+        );
+    }
+
+    @Test
+    @DisplayName("should rank pages of different sizes correctly when reusing scratch buffers")
+    void ranksPagesOfDifferentSizes() {
+        List<Game> games = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            Game game = scoreboard.startGame("Home " + i, "Away " + i);
+            scoreboard.updateScore(game.getId(), i % 7, 0);
+            games.add(game);
+        }
+        List<Long> expected = scoreboard.getSummary().stream().map(Game::getId).toList();
+
+        assertAll("Repeated selects",
+                () -> assertEquals(expected.subList(0, 3), scoreboard.getTopGames(3).stream().map(Game::getId).toList()),
+                () -> assertEquals(expected.subList(10, 40), scoreboard.getSummary(10, 30).stream().map(Game::getId).toList()),
+                () -> assertEquals(expected.subList(0, 2), scoreboard.getTopGames(2).stream().map(Game::getId).toList()),
+                () -> assertEquals(expected, scoreboard.getSummary().stream().map(Game::getId).toList()),
+                () -> assertEquals(games.get(48).getId(), expected.get(0), "Highest total, most recent start")
+        );
+    }
+
+    @Test
+    @DisplayName("should reuse freed rows across many games and segments")
+    void reusesRowsAcrossSegments() {
+        List<Game> games = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            games.add(scoreboard.startGame("Home " + i, "Away " + i));
+        }
+        for (int i = 0; i < games.size(); i += 2) {
+            scoreboard.finishGame(games.get(i).getId());
+        }
+        Game late = scoreboard.startGame("Home 0", "Away 0");
+        scoreboard.updateScore(late.getId(), 9, 9);
+
+        List<Game> top = scoreboard.getTopGames(3);
+
+        assertAll("Large board",
+                () -> assertEquals(5_001, scoreboard.getGameCount()),
+                () -> assertEquals(late, top.get(0)),
+                () -> assertEquals(games.get(9_999), top.get(1), "Ties go to the most recent start"),
+                () -> assertEquals(5_001, scoreboard.getSummary().size())
+        );
+    }
+
+    @Test
+    @DisplayName("should keep a consistent board under concurrent updates")
+    void handlesConcurrentUpdates() throws InterruptedException {
+        List<Game> games = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            games.add(scoreboard.startGame("Home " + i, "Away " + i));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            int thread = t;
+            executor.submit(() -> {
+                for (int round = 0; round < 1_000; round++) {
+                    Game game = games.get((round + thread) % games.size());
+                    scoreboard.updateScore(game.getId(), round % 10, thread);
+                    scoreboard.getTopGames(5);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        List<Game> summary = scoreboard.getSummary();
+        for (int i = 1; i < summary.size(); i++) {
+            assertTrue(summary.get(i - 1).getTotalScore() >= summary.get(i).getTotalScore());
+        }
+        assertEquals(100, summary.size());
+    }
+}
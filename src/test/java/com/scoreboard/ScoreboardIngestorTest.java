@@ -0,0 +1,174 @@
+package com.scoreboard;
+
+import com.scoreboard.event.BackpressurePolicy;
+import com.scoreboard.event.ScoreboardEvent;
+import com.scoreboard.model.Game;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ScoreboardIngestor")
+class ScoreboardIngestorTest {
+
+    private Scoreboard scoreboard;
+
+    @BeforeEach
+    void setUp() {
+        scoreboard = new Scoreboard();
+    }
+
+    @Nested
+    @DisplayName("ring buffer")
+    class RingBufferTests {
+
+        @Test
+        @DisplayName("should drain in offer order, refuse offers when full and wrap around")
+        void drainsInOrderAndWraps() {
+            FeedRingBuffer buffer = new FeedRingBuffer(3);
+            long[] ids = new long[8];
+            int[] home = new int[8];
+            int[] away = new int[8];
+            long[] versions = new long[8];
+
+            for (int i = 0; i < 4; i++) {
+                assertTrue(buffer.offer(i, i, 0, 10 + i));
+            }
+            boolean overflowed = buffer.offer(4, 4, 0, 14);
+            int firstDrain = buffer.drainTo(ids, home, away, versions, 3);
+            long[] firstIds = ids.clone();
+            assertTrue(buffer.offer(5, 5, 1, 15));
+            int secondDrain = buffer.drainTo(ids, home, away, versions, 8);
+
+            assertAll("Ring buffer",
+                    () -> assertEquals(4, buffer.capacity(), "Capacity rounds up to a power of two"),
+                    () -> assertFalse(overflowed),
+                    () -> assertEquals(3, firstDrain),
+                    () -> assertArrayEquals(new long[]{0, 1, 2}, Arrays.copyOf(firstIds, 3)),
+                    () -> assertEquals(2, secondDrain),
+                    () -> assertEquals(3, ids[0]),
+                    () -> assertEquals(5, ids[1]),
+                    () -> assertEquals(1, away[1]),
+                    () -> assertEquals(15, versions[1]),
+                    () -> assertTrue(buffer.isEmpty()),
+                    () -> assertThrows(IllegalArgumentException.class, () -> new FeedRingBuffer(0))
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("pipeline")
+    class PipelineTests {
+
+        @Test
+        @DisplayName("should apply every game's scores in order from many producers")
+        void appliesScoresInOrder() throws InterruptedException {
+            int producers = 8;
+            int gamesPerProducer = 25;
+            int updatesPerGame = 40;
+            List<Game> games = new ArrayList<>();
+            for (int i = 0; i < producers * gamesPerProducer; i++) {
+                games.add(scoreboard.startGame("Home " + i, "Away " + i));
+            }
+            ScoreboardIngestor ingestor = ScoreboardIngestor.start(scoreboard, IngestorConfig.defaults()
+                    .withLaneCount(4)
+                    .withQueueDepth(64)
+                    .withBatchSize(16)
+                    .withOverflowPolicy(ScoreboardIngestor.OverflowPolicy.BLOCK));
+
+            ExecutorService executor = Executors.newFixedThreadPool(producers);
+            CountDownLatch ready = new CountDownLatch(1);
+            for (int p = 0; p < producers; p++) {
+                List<Game> owned = games.subList(p * gamesPerProducer, (p + 1) * gamesPerProducer);
+                executor.submit(() -> {
+                    ready.await();
+                    for (int version = 1; version <= updatesPerGame; version++) {
+                        for (Game game : owned) {
+                            ingestor.submit(game.getId(), version, 0, version);
+                        }
+                    }
+                    return null;
+                });
+            }
+            ready.countDown();
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+            ingestor.close();
+
+            IngestorStats stats = ingestor.getStats();
+            long expected = (long) games.size() * updatesPerGame;
+            assertAll("Ordered ingestion",
+                    () -> assertTrue(games.stream().allMatch(game -> game.getHomeScore() == updatesPerGame)),
+                    () -> assertEquals(expected, stats.submitted()),
+                    () -> assertEquals(expected, stats.processed()),
+                    () -> assertEquals(expected, stats.accepted(), "No score was applied out of order"),
+                    () -> assertEquals(0, stats.rejected()),
+                    () -> assertEquals(0, stats.queued()),
+                    () -> assertTrue(stats.batches() > 0 && stats.batches() <= expected),
+                    () -> assertThrows(IllegalStateException.class, () -> ingestor.submit(games.get(0).getId(), 1, 0, 99))
+            );
+        }
+
+        @Test
+        @DisplayName("should reject scores while a lane is full and apply them once it drains")
+        void rejectsWhenLaneIsFull() throws InterruptedException {
+            Game game = scoreboard.startGame("Spain", "Brazil");
+            // A subscriber that requests nothing makes the lane block on its second event
+            AtomicReference<Flow.Subscription> subscription = new AtomicReference<>();
+            scoreboard.subscribe(new Flow.Subscriber<ScoreboardEvent>() {
+                @Override
+                public void onSubscribe(Flow.Subscription s) {
+                    subscription.set(s);
+                }
+
+                @Override
+                public void onNext(ScoreboardEvent event) {
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                }
+
+                @Override
+                public void onComplete() {
+                }
+            }, 1, BackpressurePolicy.BLOCK);
+            ScoreboardIngestor ingestor = ScoreboardIngestor.start(scoreboard, IngestorConfig.defaults()
+                    .withLaneCount(1)
+                    .withQueueDepth(2)
+                    .withBatchSize(1));
+
+            int lastQueued = 0;
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            int version = 1;
+            while (ingestor.submit(game.getId(), version % 50, 0, version)) {
+                lastQueued = version++;
+                assertTrue(System.nanoTime() < deadline, "Lane never filled up");
+                Thread.sleep(1);
+            }
+            assertThrows(IllegalArgumentException.class, () -> ingestor.submit(game.getId(), -1, 0, 1_000));
+            assertTrue(ingestor.getStats().queued() > 0);
+
+            subscription.get().request(Long.MAX_VALUE);
+            ingestor.close();
+
+            IngestorStats stats = ingestor.getStats();
+            int expectedHome = lastQueued % 50;
+            assertAll("Overflow",
+                    () -> assertEquals(1, stats.rejected()),
+                    () -> assertEquals(stats.submitted(), stats.processed()),
+                    () -> assertEquals(expectedHome, game.getHomeScore()),
+                    () -> assertEquals(stats.accepted(), scoreboard.getIngestStats().accepted())
+            );
+        }
+    }
+}
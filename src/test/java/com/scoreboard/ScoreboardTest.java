@@ -1,16 +1,26 @@
 package com.scoreboard;
 
 import com.scoreboard.model.Game;
+import com.scoreboard.model.Score;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -115,6 +125,24 @@ class ScoreboardTest {
 
             assertTrue(exception.getMessage().contains("999"));
         }
+
+        @Test
+        @DisplayName("should apply compare-and-set only from the expected score")
+        void comparesAndSetsScore() {
+            Game game = scoreboard.startGame("Spain", "Brazil");
+            Game other = scoreboard.startGame("Mexico", "Canada");
+            scoreboard.updateScore(game.getId(), 1, 0);
+
+            assertAll("Compare-and-set",
+                    () -> assertFalse(scoreboard.compareAndSetScore(game.getId(), 0, 0, 2, 0)),
+                    () -> assertEquals(1, game.getHomeScore()),
+                    () -> assertTrue(scoreboard.compareAndSetScore(game.getId(), 1, 0, 1, 1)),
+                    () -> assertEquals(new Score(1, 1), game.getScore()),
+                    () -> assertEquals(List.of(game, other), scoreboard.getSummary()),
+                    () -> assertThrows(GameNotFoundException.class,
+                            () -> scoreboard.compareAndSetScore(999L, 0, 0, 1, 0))
+            );
+        }
     }
 
     @Nested
@@ -200,13 +228,11 @@ class ScoreboardTest {
         }
 
         @Test
-        @DisplayName("should order games with same score by start time (most recent first)")
-        void ordersGamesByStartTimeWhenScoresEqual() throws InterruptedException {
+        @DisplayName("should order games with same score by start order (most recent first)")
+        void ordersGamesByStartOrderWhenScoresEqual() {
             Game game1 = scoreboard.startGame("Germany", "France");
             scoreboard.updateScore(game1.getId(), 2, 2);
 
-            Thread.sleep(50); // Ensure different start times
-
             Game game2 = scoreboard.startGame("Argentina", "Australia");
             scoreboard.updateScore(game2.getId(), 3, 1);
 
@@ -222,6 +248,17 @@ class ScoreboardTest {
             );
         }
 
+        @Test
+        @DisplayName("should order games started in the same clock tick deterministically")
+        void ordersSameTickStartsDeterministically() {
+            List<Game> started = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                started.add(scoreboard.startGame("Home " + i, "Away " + i));
+            }
+
+            assertEquals(started.reversed(), scoreboard.getSummary());
+        }
+
         @Test
         @DisplayName("should match requirements example")
         void matchesRequirementExample() {
@@ -248,6 +285,546 @@ class ScoreboardTest {
                     () -> assertEquals("Germany", summary.get(4).getHomeTeam())
             );
         }
+
+        @Test
+        @DisplayName("should reorder games when a score changes after being summarised")
+        void reordersGamesWhenScoreChanges() {
+            Game spain = scoreboard.startGame("Spain", "Brazil");
+            Game germany = scoreboard.startGame("Germany", "France");
+
+            scoreboard.updateScore(spain.getId(), 3, 0);
+            assertEquals("Spain", scoreboard.getSummary().get(0).getHomeTeam());
+
+            scoreboard.updateScore(germany.getId(), 2, 2);
+            scoreboard.updateScore(spain.getId(), 1, 0);
+
+            List<Game> summary = scoreboard.getSummary();
+            assertAll("Reordered summary",
+                    () -> assertEquals(2, summary.size()),
+                    () -> assertEquals("Germany", summary.get(0).getHomeTeam()),
+                    () -> assertEquals("Spain", summary.get(1).getHomeTeam())
+            );
+        }
+
+        @Test
+        @DisplayName("should keep summary unchanged when a score update is rejected")
+        void keepsSummaryOnRejectedUpdate() {
+            Game spain = scoreboard.startGame("Spain", "Brazil");
+            scoreboard.updateScore(spain.getId(), 1, 1);
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> scoreboard.updateScore(spain.getId(), -1, 0));
+
+            assertEquals(List.of(spain), scoreboard.getSummary());
+        }
+    }
+
+    @Nested
+    @DisplayName("top games and pagination")
+    class TopGamesTests {
+
+        @BeforeEach
+        void startGames() {
+            Game mexico = scoreboard.startGame("Mexico", "Canada");
+            Game spain = scoreboard.startGame("Spain", "Brazil");
+            Game germany = scoreboard.startGame("Germany", "France");
+            Game uruguay = scoreboard.startGame("Uruguay", "Italy");
+            Game argentina = scoreboard.startGame("Argentina", "Australia");
+
+            scoreboard.updateScore(mexico.getId(), 0, 5);
+            scoreboard.updateScore(spain.getId(), 10, 2);
+            scoreboard.updateScore(germany.getId(), 2, 2);
+            scoreboard.updateScore(uruguay.getId(), 6, 6);
+            scoreboard.updateScore(argentina.getId(), 3, 1);
+        }
+
+        @Test
+        @DisplayName("should return the highest ranked games in summary order")
+        void returnsTopGames() {
+            assertEquals(scoreboard.getSummary().subList(0, 3), scoreboard.getTopGames(3));
+        }
+
+        @Test
+        @DisplayName("should rank pages read from the index before any snapshot is built")
+        void ranksPagesWithoutSnapshot() {
+            List<Game> top = scoreboard.getTopGames(3);
+            List<Game> page = scoreboard.getSummary(1, 2);
+            List<Game> summary = scoreboard.getSummary();
+
+            assertAll("Index pages",
+                    () -> assertEquals(summary.subList(0, 3), top),
+                    () -> assertEquals(summary.subList(1, 3), page),
+                    () -> assertTrue(top.getFirst().isFrozen())
+            );
+        }
+
+        @Test
+        @DisplayName("should return distinct top games during score updates")
+        void returnsDistinctTopGamesDuringUpdates() throws InterruptedException {
+            List<Game> games = scoreboard.getSummary();
+            AtomicBoolean running = new AtomicBoolean(true);
+            Thread updater = Thread.ofPlatform().start(() -> {
+                for (int round = 1; running.get(); round++) {
+                    for (Game game : games) {
+                        scoreboard.updateScore(game.getId(), round % 10, 0);
+                    }
+                }
+            });
+            try {
+                for (int i = 0; i < 2_000; i++) {
+                    List<Game> top = scoreboard.getTopGames(3);
+                    assertEquals(3, top.stream().map(Game::getId).distinct().count());
+                }
+            } finally {
+                running.set(false);
+                updater.join();
+            }
+        }
+
+        @Test
+        @DisplayName("should return every game when k exceeds the board size")
+        void returnsAllGamesWhenKExceedsSize() {
+            assertEquals(scoreboard.getSummary(), scoreboard.getTopGames(100));
+        }
+
+        @ParameterizedTest(name = "offset = {0}, limit = {1}")
+        @CsvSource({
+                "0, 2, 0, 2",
+                "2, 2, 2, 4",
+                "4, 2, 4, 5",
+                "5, 2, 5, 5",
+                "9, 2, 5, 5",
+                "1, 0, 1, 1"
+        })
+        @DisplayName("should return the requested page of the summary")
+        void returnsSummaryPage(int offset, int limit, int expectedFrom, int expectedTo) {
+            assertEquals(scoreboard.getSummary().subList(expectedFrom, expectedTo),
+                    scoreboard.getSummary(offset, limit));
+        }
+
+        @Test
+        @DisplayName("should reject negative arguments")
+        void rejectsNegativeArguments() {
+            assertAll("Negative arguments",
+                    () -> assertThrows(IllegalArgumentException.class, () -> scoreboard.getTopGames(-1)),
+                    () -> assertThrows(IllegalArgumentException.class, () -> scoreboard.getSummary(-1, 2)),
+                    () -> assertThrows(IllegalArgumentException.class, () -> scoreboard.getSummary(0, -2))
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("summary snapshots")
+    class SnapshotTests {
+
+        @Test
+        @DisplayName("should start with an empty version zero snapshot")
+        void startsWithEmptySnapshot() {
+            ScoreboardSnapshot snapshot = scoreboard.getSnapshot();
+
+            assertAll("Initial snapshot",
+                    () -> assertEquals(0, snapshot.version()),
+                    () -> assertTrue(snapshot.games().isEmpty())
+            );
+        }
+
+        @Test
+        @DisplayName("should publish a newer version on every mutation")
+        void publishesNewVersionOnMutation() {
+            long initial = scoreboard.getSnapshot().version();
+
+            Game game = scoreboard.startGame("Spain", "Brazil");
+            long afterStart = scoreboard.getSnapshot().version();
+
+            scoreboard.updateScore(game.getId(), 1, 0);
+            long afterUpdate = scoreboard.getSnapshot().version();
+
+            scoreboard.finishGame(game.getId());
+            long afterFinish = scoreboard.getSnapshot().version();
+
+            assertAll("Monotonic versions",
+                    () -> assertTrue(afterStart > initial),
+                    () -> assertTrue(afterUpdate > afterStart),
+                    () -> assertTrue(afterFinish > afterUpdate),
+                    () -> assertTrue(scoreboard.getSnapshot().games().isEmpty())
+            );
+        }
+
+        @Test
+        @DisplayName("should return the same snapshot while nothing changes")
+        void returnsSameSnapshotWithoutMutation() {
+            scoreboard.startGame("Spain", "Brazil");
+            ScoreboardSnapshot first = scoreboard.getSnapshot();
+
+            scoreboard.finishGame(999L);
+
+            assertAll("Unchanged snapshot",
+                    () -> assertSame(first, scoreboard.getSnapshot()),
+                    () -> assertSame(first.games(), scoreboard.getSummary())
+            );
+        }
+
+        @Test
+        @DisplayName("should keep a snapshot's scores fixed after later updates")
+        void keepsSnapshotScoresFixed() {
+            Game game = scoreboard.startGame("Spain", "Brazil");
+            scoreboard.updateScore(game.getId(), 1, 0);
+            ScoreboardSnapshot snapshot = scoreboard.getSnapshot();
+
+            scoreboard.updateScore(game.getId(), 2, 0);
+
+            Game copy = snapshot.games().getFirst();
+            assertAll("Frozen snapshot",
+                    () -> assertEquals(1, copy.getHomeScore(), "Score of the snapshot's version"),
+                    () -> assertEquals(2, scoreboard.getSnapshot().games().getFirst().getHomeScore()),
+                    () -> assertEquals(2, game.getHomeScore(), "The live game keeps changing"),
+                    () -> assertThrows(UnsupportedOperationException.class, () -> copy.updateScore(3, 0))
+            );
+        }
+
+        @Test
+        @DisplayName("should keep every game in snapshots built during score updates")
+        void keepsGamesInSnapshotsDuringUpdates() throws InterruptedException {
+            List<Game> games = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                games.add(scoreboard.startGame("Home " + i, "Away " + i));
+            }
+            AtomicBoolean running = new AtomicBoolean(true);
+            Thread updater = Thread.ofPlatform().start(() -> {
+                // Every update changes the total, so each one moves the game in the summary index
+                for (int round = 1; running.get(); round++) {
+                    for (Game game : games) {
+                        scoreboard.updateScore(game.getId(), round % 10, 0);
+                    }
+                }
+            });
+            try {
+                for (int i = 0; i < 2_000; i++) {
+                    List<Game> summary = scoreboard.getSummary();
+                    assertEquals(games.size(), summary.size());
+                    assertEquals(games.size(), summary.stream().map(Game::getId).distinct().count());
+                }
+            } finally {
+                running.set(false);
+                updater.join();
+            }
+        }
+
+        @Test
+        @DisplayName("should return an unmodifiable summary")
+        void returnsUnmodifiableSummary() {
+            scoreboard.startGame("Spain", "Brazil");
+
+            assertThrows(UnsupportedOperationException.class,
+                    () -> scoreboard.getSummary().clear());
+        }
+    }
+
+    @Nested
+    @DisplayName("summary payloads")
+    class SummaryPayloadTests {
+
+        @Test
+        @DisplayName("should reuse the encoding until the next mutation")
+        void cachesUntilMutation() {
+            Game game = scoreboard.startGame("Spain", "Brazil");
+            SummaryPayload first = scoreboard.getSummaryPayload(SummaryFormat.JSON);
+
+            scoreboard.finishGame(999L);
+            SummaryPayload unchanged = scoreboard.getSummaryPayload(SummaryFormat.JSON);
+            scoreboard.updateScore(game.getId(), 1, 0);
+            SummaryPayload changed = scoreboard.getSummaryPayload(SummaryFormat.JSON);
+
+            assertAll("Cache",
+                    () -> assertSame(first, unchanged),
+                    () -> assertNotSame(first, changed),
+                    () -> assertEquals(scoreboard.getSnapshot().version(), changed.version()),
+                    () -> assertTrue(first.asByteBuffer().isReadOnly())
+            );
+        }
+
+        @Test
+        @DisplayName("should encode text and JSON in summary order and slice pages")
+        void encodesTextAndJson() throws IOException {
+            Game mexico = scoreboard.startGame("Mexico", "Canada");
+            Game spain = scoreboard.startGame("Spain", "Brazil");
+            scoreboard.updateScore(mexico.getId(), 0, 5);
+            scoreboard.updateScore(spain.getId(), 10, 2);
+            SummaryPayload text = scoreboard.getSummaryPayload(SummaryFormat.TEXT);
+            SummaryPayload json = scoreboard.getSummaryPayload(SummaryFormat.JSON);
+
+            ByteArrayOutputStream page = new ByteArrayOutputStream();
+            json.writePage(page, 1, 5);
+
+            assertAll("Text and JSON",
+                    () -> assertEquals("1. Spain 10 - 2 Brazil\n2. Mexico 0 - 5 Canada\n",
+                            StandardCharsets.UTF_8.decode(text.asByteBuffer()).toString()),
+                    () -> assertEquals("[" + new String(SummaryFormat.JSON.encode(mexico), StandardCharsets.UTF_8) + "]",
+                            page.toString(StandardCharsets.UTF_8)),
+                    () -> assertEquals(page.size(), json.pageLength(1, 5)),
+                    () -> assertEquals(2, json.pageLength(5, 5)),
+                    () -> assertThrows(IllegalArgumentException.class, () -> json.pageLength(-1, 5))
+            );
+        }
+
+        @Test
+        @DisplayName("should encode a counted binary record per game")
+        void encodesBinary() throws IOException {
+            Game game = scoreboard.startGame("Spain", "Brazil");
+            scoreboard.updateScore(game.getId(), 3, 1);
+            scoreboard.startGame("Mexico", "Canada");
+            SummaryPayload binary = scoreboard.getSummaryPayload(SummaryFormat.BINARY);
+
+            ByteArrayOutputStream page = new ByteArrayOutputStream();
+            binary.writePage(page, 0, 1);
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(page.toByteArray()));
+
+            assertAll("Binary",
+                    () -> assertEquals(2, binary.asByteBuffer().getInt()),
+                    () -> assertEquals(1, in.readInt()),
+                    () -> assertEquals(game.getId(), in.readLong()),
+                    () -> assertEquals(game.getStartSequence(), in.readLong()),
+                    () -> assertEquals(game.getStartTime().getEpochSecond(), in.readLong()),
+                    () -> assertEquals(game.getStartTime().getNano(), in.readInt()),
+                    () -> assertEquals(3, in.readShort()),
+                    () -> assertEquals(1, in.readShort()),
+                    () -> assertEquals("Spain", in.readUTF()),
+                    () -> assertEquals("Brazil", in.readUTF()),
+                    () -> assertEquals(-1, in.read())
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("batch operations")
+    class BatchTests {
+
+        @Test
+        @DisplayName("should apply a batch of score updates with one publication")
+        void appliesScoreUpdatesWithOnePublication() {
+            Game spain = scoreboard.startGame("Spain", "Brazil");
+            Game germany = scoreboard.startGame("Germany", "France");
+            long versionBefore = scoreboard.getSnapshot().version();
+
+            List<OperationResult<Game>> results = scoreboard.updateScores(List.of(
+                    new ScoreUpdate(spain.getId(), 1, 0),
+                    new ScoreUpdate(germany.getId(), 2, 2)
+            ));
+
+            assertAll("Batch update",
+                    () -> assertTrue(results.stream().allMatch(OperationResult::isSuccess)),
+                    () -> assertEquals(1, spain.getTotalScore()),
+                    () -> assertEquals(4, germany.getTotalScore()),
+                    () -> assertEquals(versionBefore + 1, scoreboard.getSnapshot().version()),
+                    () -> assertEquals(List.of(germany, spain), scoreboard.getSummary())
+            );
+        }
+
+        @Test
+        @DisplayName("should report failures per item instead of throwing")
+        void reportsFailuresPerItem() {
+            Game spain = scoreboard.startGame("Spain", "Brazil");
+
+            List<OperationResult<Game>> results = scoreboard.updateScores(List.of(
+                    new ScoreUpdate(999L, 1, 0),
+                    new ScoreUpdate(spain.getId(), -1, 0),
+                    new ScoreUpdate(spain.getId(), 3, 2)
+            ));
+
+            assertAll("Per-item results",
+                    () -> assertEquals(OperationResult.Status.GAME_NOT_FOUND, results.get(0).status()),
+                    () -> assertTrue(results.get(0).message().contains("999")),
+                    () -> assertEquals(OperationResult.Status.INVALID_ARGUMENT, results.get(1).status()),
+                    () -> assertEquals(OperationResult.Status.SUCCESS, results.get(2).status()),
+                    () -> assertEquals(5, spain.getTotalScore())
+            );
+        }
+
+        @Test
+        @DisplayName("should not publish when no item in the batch applies")
+        void doesNotPublishWhenNothingApplies() {
+            ScoreboardSnapshot before = scoreboard.getSnapshot();
+
+            scoreboard.updateScores(List.of(new ScoreUpdate(999L, 1, 0)));
+            scoreboard.finishGames(List.of(998L));
+
+            assertSame(before, scoreboard.getSnapshot());
+        }
+
+        @Test
+        @DisplayName("should start games and reject conflicting teams within the batch")
+        void startsGamesAndRejectsConflicts() {
+            List<OperationResult<Game>> results = scoreboard.startGames(List.of(
+                    new GameStart("Spain", "Brazil"),
+                    new GameStart("Spain", "Germany"),
+                    new GameStart("", "Italy"),
+                    new GameStart("Mexico", "Canada")
+            ));
+
+            assertAll("Batch start",
+                    () -> assertEquals(OperationResult.Status.SUCCESS, results.get(0).status()),
+                    () -> assertEquals(OperationResult.Status.TEAM_ALREADY_PLAYING, results.get(1).status()),
+                    () -> assertEquals(OperationResult.Status.INVALID_ARGUMENT, results.get(2).status()),
+                    () -> assertEquals(OperationResult.Status.SUCCESS, results.get(3).status()),
+                    () -> assertEquals(2, scoreboard.getGameCount()),
+                    () -> assertFalse(scoreboard.isTeamPlaying("Germany"))
+            );
+        }
+
+        @Test
+        @DisplayName("should finish games and report unknown IDs")
+        void finishesGamesAndReportsUnknownIds() {
+            Game spain = scoreboard.startGame("Spain", "Brazil");
+            Game germany = scoreboard.startGame("Germany", "France");
+
+            List<OperationResult<Game>> results = scoreboard.finishGames(
+                    List.of(spain.getId(), 999L, germany.getId()));
+
+            assertAll("Batch finish",
+                    () -> assertEquals(spain, results.get(0).value()),
+                    () -> assertEquals(OperationResult.Status.GAME_NOT_FOUND, results.get(1).status()),
+                    () -> assertEquals(germany, results.get(2).value()),
+                    () -> assertEquals(0, scoreboard.getGameCount()),
+                    () -> assertTrue(scoreboard.getActiveTeams().isEmpty())
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("sequence-aware ingestion")
+    class IngestTests {
+
+        @Test
+        @DisplayName("should drop duplicate and out-of-order feed updates")
+        void dropsStaleUpdates() {
+            Game game = scoreboard.startGame("Spain", "Brazil");
+
+            assertAll("Ingestion",
+                    () -> assertEquals(IngestOutcome.ACCEPTED, scoreboard.ingestScore(game.getId(), 1, 0, 10)),
+                    () -> assertEquals(IngestOutcome.STALE, scoreboard.ingestScore(game.getId(), 1, 0, 10)),
+                    () -> assertEquals(IngestOutcome.ACCEPTED, scoreboard.ingestScore(game.getId(), 2, 0, 12)),
+                    () -> assertEquals(IngestOutcome.STALE, scoreboard.ingestScore(game.getId(), 1, 1, 11)),
+                    () -> assertEquals(IngestOutcome.GAME_NOT_FOUND, scoreboard.ingestScore(999L, 1, 0, 1)),
+                    () -> assertThrows(IllegalArgumentException.class, () -> scoreboard.ingestScore(game.getId(), -1, 0, 13)),
+                    () -> assertEquals(2, game.getHomeScore()),
+                    () -> assertEquals(0, game.getAwayScore()),
+                    () -> assertEquals(12, game.getSourceVersion()),
+                    () -> assertEquals(new IngestStats(2, 2, 1), scoreboard.getIngestStats())
+            );
+        }
+
+        @Test
+        @DisplayName("should publish the scores of a batch applied before a failing one")
+        void publishesBatchPrefixBeforeFailure() {
+            Game spain = scoreboard.startGame("Spain", "Brazil");
+            Game germany = scoreboard.startGame("Germany", "France");
+            long[] gameIds = {spain.getId(), germany.getId(), spain.getId()};
+            assertEquals(List.of(germany, spain), scoreboard.getSummary());
+
+            IngestBatchException failure = assertThrows(IngestBatchException.class, () -> scoreboard.ingestScores(
+                    gameIds, new int[]{1, -1, 2}, new int[]{0, 0, 0}, new long[]{1, 1, 2}, 0, gameIds.length));
+
+            assertAll("Partial batch",
+                    () -> assertEquals(1, failure.getFailedIndex()),
+                    () -> assertEquals(1, failure.getAccepted()),
+                    () -> assertInstanceOf(IllegalArgumentException.class, failure.getCause()),
+                    () -> assertEquals(List.of(spain, germany), scoreboard.getSummary()),
+                    () -> assertEquals(1, scoreboard.getSummary().getFirst().getHomeScore())
+            );
+        }
+
+        @Test
+        @DisplayName("should ingest a batch from the given index")
+        void ingestsBatchFromIndex() {
+            Game spain = scoreboard.startGame("Spain", "Brazil");
+            long[] gameIds = {spain.getId(), spain.getId(), spain.getId()};
+
+            int accepted = scoreboard.ingestScores(gameIds, new int[]{1, -1, 2}, new int[]{0, 0, 0},
+                    new long[]{1, 2, 3}, 2, gameIds.length);
+
+            assertAll("Retried batch",
+                    () -> assertEquals(1, accepted),
+                    () -> assertEquals(2, spain.getHomeScore()),
+                    () -> assertEquals(3, spain.getSourceVersion())
+            );
+        }
+
+        @Test
+        @DisplayName("should settle on the newest update when redeliveries race")
+        void settlesOnNewestUnderConcurrency() throws InterruptedException {
+            Game game = scoreboard.startGame("Spain", "Brazil");
+            int threads = 8;
+            int versions = 1_000;
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            CountDownLatch ready = new CountDownLatch(1);
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                executor.submit(() -> {
+                    ready.await();
+                    // Every thread delivers every version, each starting at a different point
+                    for (int i = 0; i < versions; i++) {
+                        int version = (i + thread * 97) % versions;
+                        scoreboard.ingestScore(game.getId(), version % 50, version / 50, version);
+                    }
+                    return null;
+                });
+            }
+            ready.countDown();
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+            IngestStats stats = scoreboard.getIngestStats();
+            int last = versions - 1;
+            assertAll("Newest wins",
+                    () -> assertEquals(last % 50, game.getHomeScore()),
+                    () -> assertEquals(last / 50, game.getAwayScore()),
+                    () -> assertEquals(last, game.getSourceVersion()),
+                    () -> assertEquals((long) threads * versions, stats.total()),
+                    () -> assertTrue(stats.accepted() >= 1 && stats.accepted() <= versions)
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("team and competition lookups")
+    class SecondaryIndexTests {
+
+        @Test
+        @DisplayName("should find the live game a team is playing in")
+        void findsGameByTeam() {
+            Game game = scoreboard.startGame("Spain", "Brazil");
+
+            assertAll("By team",
+                    () -> assertEquals(game, scoreboard.findGameByTeam("spain").orElseThrow()),
+                    () -> assertEquals(game, scoreboard.findGameByTeam(" Brazil ").orElseThrow()),
+                    () -> assertTrue(scoreboard.findGameByTeam("Germany").isEmpty()),
+                    () -> assertTrue(scoreboard.finishGame(game.getId())),
+                    () -> assertTrue(scoreboard.findGameByTeam("Spain").isEmpty())
+            );
+        }
+
+        @Test
+        @DisplayName("should list a competition's live games in summary order")
+        void summarisesCompetition() {
+            Game spain = scoreboard.startGame("Spain", "Brazil", "Group A");
+            Game mexico = scoreboard.startGame("Mexico", "Canada", "group a");
+            Game germany = scoreboard.startGame("Germany", "France", "Group B");
+            scoreboard.startGame("Italy", "Chile");
+            scoreboard.updateScore(spain.getId(), 2, 1);
+            Game uruguay = scoreboard.startGame("Uruguay", "Peru", "Group A");
+            scoreboard.finishGame(mexico.getId());
+
+            assertAll("By competition",
+                    () -> assertEquals(List.of(spain, uruguay), scoreboard.getSummaryByCompetition("GROUP A")),
+                    () -> assertEquals(List.of(germany), scoreboard.getSummaryByCompetition("Group B")),
+                    () -> assertTrue(scoreboard.getSummaryByCompetition("Group C").isEmpty()),
+                    () -> assertEquals("Group A", spain.getCompetition().orElseThrow()),
+                    () -> assertTrue(scoreboard.findGameByTeam("Italy").orElseThrow().getCompetition().isEmpty()),
+                    () -> assertThrows(IllegalArgumentException.class, () -> scoreboard.startGame("Peru", "Chile", " ")),
+                    () -> assertTrue(scoreboard.getSummaryByCompetition("Group A").stream()
+                            .noneMatch(game -> game.equals(mexico)))
+            );
+        }
     }
 
     @Nested
@@ -296,13 +873,33 @@ class ScoreboardTest {
         }
 
         @Test
-        @DisplayName("should handle team names case-sensitively")
-        void handlesTeamNamesCaseSensitively() {
+        @DisplayName("should treat team names case-insensitively")
+        void treatsTeamNamesCaseInsensitively() {
             scoreboard.startGame("Spain", "Brazil");
 
-            // "spain" (lowercase) is different from "Spain"
-            assertDoesNotThrow(() ->
-                    scoreboard.startGame("spain", "Germany")
+            // "spain" is the same team as "Spain", matching Game's identical-team rule
+            TeamAlreadyPlayingException exception = assertThrows(TeamAlreadyPlayingException.class,
+                    () -> scoreboard.startGame("spain", "Germany"));
+
+            assertAll("Case-insensitive teams",
+                    () -> assertEquals("spain", exception.getTeamName()),
+                    () -> assertTrue(scoreboard.isTeamPlaying("SPAIN")),
+                    () -> assertTrue(scoreboard.isTeamPlaying(" brazil ")),
+                    () -> assertFalse(scoreboard.isTeamPlaying("Germany")),
+                    () -> assertEquals(Set.of("Spain", "Brazil"), scoreboard.getActiveTeams())
+            );
+        }
+
+        @Test
+        @DisplayName("should release teams regardless of the spelling used to start the game")
+        void releasesTeamsRegardlessOfSpelling() {
+            Game game = scoreboard.startGame("SPAIN", "brazil");
+
+            scoreboard.finishGame(game.getId());
+
+            assertAll("Released teams",
+                    () -> assertFalse(scoreboard.isTeamPlaying("Spain")),
+                    () -> assertDoesNotThrow(() -> scoreboard.startGame("Spain", "Brazil"))
             );
         }
 
@@ -359,6 +956,55 @@ class ScoreboardTest {
             assertEquals(9, failureCount.get(),
                     "Nine threads should fail due to team already playing");
         }
+
+        @Test
+        @DisplayName("should never reserve a team for two games when many overlapping starts race")
+        void neverDoubleBooksTeamsUnderRacingStarts() throws InterruptedException {
+            int numTeams = 20;
+            int numAttempts = 5_000;
+            CountDownLatch start = new CountDownLatch(1);
+
+            try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+                for (int i = 0; i < numAttempts; i++) {
+                    int home = i % numTeams;
+                    int away = (i * 7 + 3) % numTeams;
+                    executor.submit(() -> {
+                        start.await();
+                        try {
+                            Game game = scoreboard.startGame("Team" + home, "Team" + away);
+                            if (game.getId() % 2 == 0) {
+                                scoreboard.finishGame(game.getId());
+                            }
+                        } catch (TeamAlreadyPlayingException | IllegalArgumentException e) {
+                            // Expected for conflicting or identical teams
+                        }
+                        return null;
+                    });
+                }
+                start.countDown();
+            }
+
+            Set<String> teamsInGames = new HashSet<>();
+            for (Game game : scoreboard.getAllGames()) {
+                assertTrue(teamsInGames.add(game.getHomeTeam()), "Double-booked " + game.getHomeTeam());
+                assertTrue(teamsInGames.add(game.getAwayTeam()), "Double-booked " + game.getAwayTeam());
+            }
+            assertEquals(teamsInGames, scoreboard.getActiveTeams(), "No leaked reservations");
+        }
+
+        @Test
+        @DisplayName("should release the home reservation when the away team is already playing")
+        void releasesHomeReservationOnConflict() {
+            scoreboard.startGame("Spain", "Brazil");
+
+            assertThrows(TeamAlreadyPlayingException.class,
+                    () -> scoreboard.startGame("Germany", "Brazil"));
+
+            assertAll("Rolled back reservation",
+                    () -> assertFalse(scoreboard.isTeamPlaying("Germany")),
+                    () -> assertDoesNotThrow(() -> scoreboard.startGame("Germany", "France"))
+            );
+        }
     }
 
     @Nested
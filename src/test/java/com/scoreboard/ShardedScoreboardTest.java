@@ -0,0 +1,163 @@
+package com.scoreboard;
+
+import com.scoreboard.model.Game;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ShardedScoreboard")
+class ShardedScoreboardTest {
+
+    private ShardedScoreboard scoreboard;
+
+    @BeforeEach
+    void setUp() {
+        scoreboard = new ShardedScoreboard(4);
+    }
+
+    @Test
+    @DisplayName("should route operations to the shard holding the game")
+    void routesOperationsByGameId() {
+        Game spain = scoreboard.startGame("Spain", "Brazil");
+        Game germany = scoreboard.startGame("Germany", "France");
+
+        scoreboard.updateScore(spain.getId(), 2, 0);
+
+        assertAll("Routing",
+                () -> assertEquals(2, scoreboard.getGameCount()),
+                () -> assertEquals(2, scoreboard.findGame(spain.getId()).orElseThrow().getTotalScore()),
+                () -> assertTrue(scoreboard.finishGame(germany.getId())),
+                () -> assertFalse(scoreboard.finishGame(germany.getId())),
+                () -> assertThrows(GameNotFoundException.class, () -> scoreboard.updateScore(germany.getId(), 1, 0))
+        );
+    }
+
+    @Test
+    @DisplayName("should enforce team uniqueness across shards")
+    void enforcesTeamUniquenessGlobally() {
+        for (int i = 0; i < 16; i++) {
+            scoreboard.startGame("Home " + i, "Away " + i);
+        }
+
+        assertAll("Global uniqueness",
+                () -> assertThrows(TeamAlreadyPlayingException.class, () -> scoreboard.startGame("home 3", "Spain")),
+                () -> assertThrows(TeamAlreadyPlayingException.class, () -> scoreboard.startGame("Spain", "Away 11")),
+                () -> assertFalse(scoreboard.isTeamPlaying("Spain")),
+                () -> assertEquals(32, scoreboard.getActiveTeams().size())
+        );
+    }
+
+    @Test
+    @DisplayName("should merge shards into the same order as a single scoreboard")
+    void mergesLikeSingleScoreboard() {
+        Scoreboard reference = new Scoreboard();
+        for (int i = 0; i < 200; i++) {
+            Game game = scoreboard.startGame("Home " + i, "Away " + i);
+            scoreboard.updateScore(game.getId(), i % 4, i % 3);
+            Game referenceGame = reference.startGame("Home " + i, "Away " + i);
+            reference.updateScore(referenceGame.getId(), i % 4, i % 3);
+        }
+        List<Long> expected = reference.getSummary().stream().map(Game::getId).toList();
+
+        assertAll("Merged summary",
+                () -> assertEquals(expected, scoreboard.getSummary().stream().map(Game::getId).toList()),
+                () -> assertEquals(expected.subList(0, 10),
+                        scoreboard.getTopGames(10).stream().map(Game::getId).toList()),
+                () -> assertEquals(expected.subList(50, 75),
+                        scoreboard.getSummary(50, 25).stream().map(Game::getId).toList()),
+                () -> assertTrue(scoreboard.getSummary(500, 10).isEmpty())
+        );
+    }
+
+    @Test
+    @DisplayName("should merge large boards in parallel in summary order")
+    void mergesLargeBoardsInParallel() {
+        ShardedScoreboard large = new ShardedScoreboard(8);
+        for (int i = 0; i < 20_000; i++) {
+            large.startGame("Home " + i, "Away " + i);
+        }
+        List<Game> all = new ArrayList<>(large.getSummary());
+        for (int i = 0; i < all.size(); i += 3) {
+            large.updateScore(all.get(i).getId(), i % 7, 0);
+        }
+
+        List<Game> summary = large.getSummary();
+
+        List<Game> sorted = new ArrayList<>(summary);
+        sorted.sort(Comparator.comparing(Game::getTotalScore).reversed()
+                .thenComparing(Comparator.comparingLong(Game::getStartSequence).reversed()));
+        assertAll("Parallel merge",
+                () -> assertEquals(20_000, summary.size()),
+                () -> assertEquals(sorted, summary)
+        );
+    }
+
+    @Test
+    @DisplayName("should keep a merged summary sorted while scores change during the merge")
+    void keepsMergeSortedUnderConcurrentUpdates() throws InterruptedException {
+        ShardedScoreboard large = new ShardedScoreboard(8);
+        List<Game> games = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            games.add(large.startGame("Home " + i, "Away " + i));
+        }
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread updater = Thread.ofPlatform().start(() -> {
+            for (int round = 0; running.get(); round++) {
+                Game game = games.get(round % games.size());
+                large.updateScore(game.getId(), round % 9, round % 4);
+            }
+        });
+
+        try {
+            for (int attempt = 0; attempt < 50; attempt++) {
+                List<Game> summary = large.getSummary();
+                for (int i = 1; i < summary.size(); i++) {
+                    assertTrue(SummaryIndex.compare(summary.get(i - 1), summary.get(i)) < 0,
+                            "Summary out of order at position " + i);
+                }
+            }
+        } finally {
+            running.set(false);
+            updater.join();
+        }
+    }
+
+    @Test
+    @DisplayName("should let only one racing start claim a team across shards")
+    void racingStartsClaimTeamOnce() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch ready = new CountDownLatch(1);
+        AtomicInteger started = new AtomicInteger();
+        for (int i = 0; i < 8; i++) {
+            int opponent = i;
+            executor.submit(() -> {
+                ready.await();
+                try {
+                    scoreboard.startGame("Spain", "Opponent " + opponent);
+                    started.incrementAndGet();
+                } catch (TeamAlreadyPlayingException ignored) {
+                    // Expected for every start but one
+                }
+                return null;
+            });
+        }
+        ready.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertAll("Single claim",
+                () -> assertEquals(1, started.get()),
+                () -> assertEquals(1, scoreboard.getGameCount())
+        );
+    }
+}
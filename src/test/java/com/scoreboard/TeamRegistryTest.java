@@ -0,0 +1,83 @@
+package com.scoreboard;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TeamRegistry")
+class TeamRegistryTest {
+
+    private TeamRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new TeamRegistry();
+    }
+
+    @ParameterizedTest(name = "''{0}'' = ''{1}''")
+    @CsvSource({
+            "Spain, spain",
+            "Spain, SPAIN",
+            "'  Spain ', Spain",
+            "Côte d'Ivoire, CÔTE D'IVOIRE"
+    })
+    @DisplayName("should intern spellings that differ only by case or padding as one team")
+    void internsEquivalentSpellingsOnce(String first, String second) {
+        TeamRegistry.Team team = registry.intern(first);
+
+        assertAll("Same team",
+                () -> assertSame(team, registry.intern(second)),
+                () -> assertSame(team, registry.find(second)),
+                () -> assertEquals(1, registry.size())
+        );
+    }
+
+    @Test
+    @DisplayName("should assign compact sequential IDs")
+    void assignsCompactIds() {
+        assertAll("Team IDs",
+                () -> assertEquals(0, registry.intern("Spain").getId()),
+                () -> assertEquals(1, registry.intern("Brazil").getId()),
+                () -> assertEquals(0, registry.intern("spain").getId())
+        );
+    }
+
+    @Test
+    @DisplayName("should not cache spellings that are only looked up")
+    void doesNotCacheLookedUpSpellings() {
+        TeamRegistry.Team team = registry.intern("Spain");
+        for (int i = 0; i < 100; i++) {
+            registry.find("Unknown " + i);
+        }
+
+        assertAll("Spelling cache",
+                () -> assertSame(team, registry.find("SPAIN")),
+                () -> assertEquals(1, registry.cachedSpellingCount()),
+                () -> assertEquals(1, registry.size())
+        );
+    }
+
+    @Test
+    @DisplayName("should return null for unknown teams")
+    void returnsNullForUnknownTeams() {
+        assertNull(registry.find("Spain"));
+    }
+
+    @Test
+    @DisplayName("should reserve a team for one game at a time")
+    void reservesTeamForOneGame() {
+        TeamRegistry.Team team = registry.intern("Spain");
+
+        assertAll("Reservation slot",
+                () -> assertTrue(team.reserve(1)),
+                () -> assertFalse(team.reserve(2)),
+                () -> assertFalse(team.release(2), "Only the holder can release"),
+                () -> assertTrue(team.isPlaying()),
+                () -> assertTrue(team.release(1)),
+                () -> assertFalse(team.isPlaying()),
+                () -> assertTrue(team.reserve(2))
+        );
+    }
+}
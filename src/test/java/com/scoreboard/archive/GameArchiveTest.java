@@ -0,0 +1,206 @@
+package com.scoreboard.archive;
+
+import com.scoreboard.Scoreboard;
+import com.scoreboard.model.Game;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("GameArchive")
+class GameArchiveTest {
+
+    private static final Instant KICK_OFF = Instant.parse("2026-06-11T18:00:00Z");
+
+    @TempDir
+    Path directory;
+
+    private ArchiveConfig config;
+
+    @BeforeEach
+    void setUp() {
+        config = new ArchiveConfig(directory, 8, 1_024);
+    }
+
+    @Test
+    @DisplayName("should return a team's most recent results newest first across blocks")
+    void returnsRecentResults() throws IOException {
+        try (GameArchive archive = GameArchive.open(config)) {
+            for (int i = 0; i < 100; i++) {
+                archive.append(result(i, i % 10 == 0 ? "Spain" : "Home " + i, "Away " + i, i));
+            }
+
+            List<FinishedGame> spain = archive.recentResults("SPAIN", 3);
+
+            assertAll("Recent results",
+                    () -> assertEquals(List.of(90L, 80L, 70L), spain.stream().map(FinishedGame::gameId).toList()),
+                    () -> assertEquals(10, archive.recentResults("Spain", 50).size()),
+                    () -> assertEquals(List.of(99L), archive.recentResults("Away 99", 5).stream()
+                            .map(FinishedGame::gameId).toList()),
+                    () -> assertTrue(archive.recentResults("Brazil", 5).isEmpty()),
+                    () -> assertEquals(100, archive.getArchivedCount())
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("should return results in a finish time range oldest first")
+    void returnsResultsByFinishTime() throws IOException {
+        try (GameArchive archive = GameArchive.open(config)) {
+            for (int i = 0; i < 50; i++) {
+                archive.append(result(i, "Home " + i, "Away " + i, i));
+            }
+
+            List<FinishedGame> range = archive.finishedBetween(finishTime(10), finishTime(13));
+
+            assertAll("Finish time range",
+                    () -> assertEquals(List.of(10L, 11L, 12L), range.stream().map(FinishedGame::gameId).toList()),
+                    () -> assertEquals(50, archive.finishedBetween(Instant.MIN, Instant.MAX).size()),
+                    () -> assertTrue(archive.finishedBetween(finishTime(60), Instant.MAX).isEmpty())
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("should rebuild the index across segments when reopened")
+    void rebuildsIndexOnOpen() throws IOException {
+        try (GameArchive archive = GameArchive.open(config)) {
+            for (int i = 0; i < 200; i++) {
+                archive.append(result(i, i % 2 == 0 ? "Spain" : "Brazil", "Opponent " + i, i));
+            }
+        }
+
+        try (GameArchive reopened = GameArchive.open(config)) {
+            FinishedGame latest = reopened.recentResults("Brazil", 1).getFirst();
+
+            assertAll("Reopened",
+                    () -> assertTrue(Files.exists(config.segmentPath(1)), "Results span several segments"),
+                    () -> assertEquals(200, reopened.getArchivedCount()),
+                    () -> assertEquals(199, latest.gameId()),
+                    () -> assertEquals("Opponent 199", latest.awayTeam()),
+                    () -> assertEquals(199 % 7, latest.homeScore()),
+                    () -> assertEquals(KICK_OFF, latest.startTime()),
+                    () -> assertEquals(finishTime(199), latest.finishTime())
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("should truncate a torn tail when reopened")
+    void truncatesTornTail() throws IOException {
+        try (GameArchive archive = GameArchive.open(config)) {
+            for (int i = 0; i < 16; i++) {
+                archive.append(result(i, "Home " + i, "Away " + i, i));
+            }
+        }
+        Path segment = config.segmentPath(0);
+        long validSize = Files.size(segment);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0, 0, 1, 0, 0, 0, 0, 8, 1, 2}));
+        }
+
+        try (GameArchive reopened = GameArchive.open(config)) {
+            assertAll("Torn tail",
+                    () -> assertEquals(16, reopened.getArchivedCount()),
+                    () -> assertEquals(validSize, Files.size(segment))
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("should archive games finished on a scoreboard with their final score")
+    void archivesFinishedGames() throws Exception {
+        Scoreboard scoreboard = new Scoreboard();
+        Game early = scoreboard.startGame("Spain", "Brazil");
+        scoreboard.updateScore(early.getId(), 1, 0);
+
+        try (GameArchive archive = GameArchive.open(config);
+             GameArchiver archiver = GameArchiver.attach(scoreboard, archive)) {
+            scoreboard.updateScore(early.getId(), 2, 1);
+            scoreboard.finishGame(early.getId());
+            Game later = scoreboard.startGame("Spain", "Italy");
+            scoreboard.updateScore(later.getId(), 0, 3);
+            scoreboard.finishGame(later.getId());
+
+            long deadline = System.nanoTime() + 5_000_000_000L;
+            while (archive.getArchivedCount() < 2 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            List<FinishedGame> spain = archive.recentResults("Spain", 5);
+
+            assertAll("Archived results",
+                    () -> assertEquals(2, spain.size()),
+                    () -> assertEquals("Italy", spain.get(0).awayTeam()),
+                    () -> assertEquals(3, spain.get(0).awayScore()),
+                    () -> assertEquals(2, spain.get(1).homeScore()),
+                    () -> assertEquals(early.getStartTime(), spain.get(1).startTime()),
+                    () -> assertEquals(0, archiver.getFailureCount())
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("should archive the time a game finished rather than when it was archived")
+    void archivesFinishTimeFromEvent() throws Exception {
+        Scoreboard scoreboard = new Scoreboard();
+
+        try (GameArchive archive = GameArchive.open(config)) {
+            GameArchiver archiver = GameArchiver.attach(scoreboard, archive);
+            Game game = scoreboard.startGame("Spain", "Brazil");
+            Instant before = Instant.now();
+            scoreboard.finishGame(game.getId());
+            Instant after = Instant.now();
+
+            awaitArchived(archive, 1);
+            archiver.close();
+            Instant finishTime = archive.recentResults("Spain", 1).getFirst().finishTime();
+
+            assertAll("Finish time",
+                    () -> assertFalse(finishTime.isBefore(before)),
+                    () -> assertFalse(finishTime.isAfter(after))
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("should flush a partially filled block when the archiver is closed")
+    void flushesOnClose() throws Exception {
+        Scoreboard scoreboard = new Scoreboard();
+
+        try (GameArchive archive = GameArchive.open(config)) {
+            GameArchiver archiver = GameArchiver.attach(scoreboard, archive);
+            Game game = scoreboard.startGame("Spain", "Brazil");
+            scoreboard.finishGame(game.getId());
+            awaitArchived(archive, 1);
+            archiver.close();
+
+            try (GameArchive reopened = GameArchive.open(config)) {
+                assertEquals(1, reopened.recentResults("Brazil", 5).size());
+            }
+        }
+    }
+
+    private static void awaitArchived(GameArchive archive, long count) throws InterruptedException {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (archive.getArchivedCount() < count && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static FinishedGame result(long gameId, String homeTeam, String awayTeam, int minute) {
+        return new FinishedGame(gameId, homeTeam, awayTeam, minute % 7, minute % 3, KICK_OFF, finishTime(minute));
+    }
+
+    private static Instant finishTime(int minute) {
+        return KICK_OFF.plusSeconds(6_000 + minute * 60L);
+    }
+}
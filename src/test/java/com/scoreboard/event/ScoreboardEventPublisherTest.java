@@ -0,0 +1,283 @@
+package com.scoreboard.event;
+
+import com.scoreboard.Scoreboard;
+import com.scoreboard.model.Game;
+import org.junit.jupiter.api.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ScoreboardEventPublisher")
+class ScoreboardEventPublisherTest {
+
+    private ScoreboardEventPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        // Deliver on the publishing thread so tests are deterministic
+        publisher = new ScoreboardEventPublisher(Runnable::run);
+    }
+
+    @Test
+    @DisplayName("should emit start, score and finish events from the scoreboard in order")
+    void emitsScoreboardEvents() throws InterruptedException {
+        Scoreboard scoreboard = new Scoreboard();
+        CountDownLatch received = new CountDownLatch(3);
+        RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE, received);
+        scoreboard.subscribe(subscriber);
+
+        Game game = scoreboard.startGame("Spain", "Brazil");
+        scoreboard.updateScore(game.getId(), 1, 0);
+        scoreboard.finishGame(game.getId());
+
+        assertTrue(received.await(5, TimeUnit.SECONDS));
+        List<ScoreboardEvent> events = subscriber.events;
+        assertAll("Event stream",
+                () -> assertInstanceOf(ScoreboardEvent.GameStarted.class, events.get(0)),
+                () -> assertEquals(new ScoreboardEvent.ScoreUpdated(events.get(1).sequence(), game.getId(), 1, 0),
+                        events.get(1)),
+                () -> assertInstanceOf(ScoreboardEvent.GameFinished.class, events.get(2)),
+                () -> assertTrue(events.get(0).sequence() < events.get(1).sequence()),
+                () -> assertTrue(events.get(1).sequence() < events.get(2).sequence())
+        );
+    }
+
+    @Test
+    @DisplayName("should only deliver as many events as requested")
+    void respectsDemand() {
+        RecordingSubscriber subscriber = new RecordingSubscriber(1, null);
+        publisher.subscribe(subscriber);
+
+        publisher.publish(update(1, 1, 1, 0));
+        publisher.publish(update(2, 1, 2, 0));
+        assertEquals(List.of(update(1, 1, 1, 0)), subscriber.events);
+
+        subscriber.subscription.request(1);
+        assertEquals(List.of(update(1, 1, 1, 0), update(2, 1, 2, 0)), subscriber.events);
+    }
+
+    @Test
+    @DisplayName("should drop the oldest events when the buffer overflows")
+    void dropsOldestEvents() {
+        RecordingSubscriber subscriber = new RecordingSubscriber(0, null);
+        publisher.subscribe(subscriber, 2, BackpressurePolicy.DROP_OLDEST);
+
+        for (int i = 1; i <= 4; i++) {
+            publisher.publish(update(i, i, i, 0));
+        }
+        subscriber.subscription.request(10);
+
+        assertEquals(List.of(update(3, 3, 3, 0), update(4, 4, 4, 0)), subscriber.events);
+    }
+
+    @Test
+    @DisplayName("should coalesce pending score updates to the latest one per game")
+    void coalescesScoreUpdates() {
+        RecordingSubscriber subscriber = new RecordingSubscriber(0, null);
+        publisher.subscribe(subscriber, 1, BackpressurePolicy.COALESCE);
+
+        ScoreboardEvent started = new ScoreboardEvent.GameStarted(1, 7, "Spain", "Brazil", Instant.EPOCH, 1, null);
+        publisher.publish(started);
+        publisher.publish(update(2, 7, 1, 0));
+        publisher.publish(update(3, 8, 1, 0));
+        publisher.publish(update(4, 7, 2, 0));
+        publisher.publish(update(5, 7, 3, 0));
+        subscriber.subscription.request(10);
+
+        assertEquals(List.of(started, update(5, 7, 3, 0), update(3, 8, 1, 0)), subscriber.events);
+    }
+
+    @Test
+    @DisplayName("should bound coalesced delivery by the number of games")
+    void boundsCoalescedDeliveryByGames() {
+        RecordingSubscriber subscriber = new RecordingSubscriber(0, null);
+        publisher.subscribe(subscriber, 1, BackpressurePolicy.COALESCE);
+
+        long sequence = 0;
+        for (int round = 0; round < 1_000; round++) {
+            for (long gameId = 1; gameId <= 5; gameId++) {
+                publisher.publish(update(++sequence, gameId, round % 10, 0));
+            }
+        }
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        long lastSequence = sequence;
+        assertAll("One event per game",
+                () -> assertEquals(5, subscriber.events.size()),
+                () -> assertEquals(update(lastSequence, 5, 9, 0), subscriber.events.get(4))
+        );
+    }
+
+    @Test
+    @DisplayName("should deliver a coalesced game's start, latest score and finish in order")
+    void deliversCoalescedGameInOrder() {
+        RecordingSubscriber subscriber = new RecordingSubscriber(0, null);
+        publisher.subscribe(subscriber, 1, BackpressurePolicy.COALESCE);
+
+        ScoreboardEvent started = new ScoreboardEvent.GameStarted(1, 7, "Spain", "Brazil", Instant.EPOCH, 1, null);
+        ScoreboardEvent finished = new ScoreboardEvent.GameFinished(4, 7, Instant.EPOCH);
+        publisher.publish(started);
+        publisher.publish(update(2, 7, 1, 0));
+        publisher.publish(update(3, 7, 1, 1));
+        publisher.publish(finished);
+
+        subscriber.subscription.request(1);
+        assertEquals(List.of(started), subscriber.events);
+
+        subscriber.subscription.request(5);
+        assertEquals(List.of(started, update(3, 7, 1, 1), finished), subscriber.events);
+    }
+
+    @Test
+    @DisplayName("should block the publisher until a blocking subscriber makes room")
+    void blocksUntilSubscriberMakesRoom() throws InterruptedException {
+        RecordingSubscriber subscriber = new RecordingSubscriber(0, null);
+        publisher.subscribe(subscriber, 1, BackpressurePolicy.BLOCK);
+        publisher.publish(update(1, 1, 1, 0));
+
+        Thread blocked = Thread.ofVirtual().start(() -> publisher.publish(update(2, 1, 2, 0)));
+        blocked.join(100);
+        assertTrue(blocked.isAlive(), "Publisher should wait for buffer space");
+
+        subscriber.subscription.request(10);
+        blocked.join(5_000);
+
+        assertAll("Lossless delivery",
+                () -> assertFalse(blocked.isAlive()),
+                () -> assertEquals(List.of(update(1, 1, 1, 0), update(2, 1, 2, 0)), subscriber.events)
+        );
+    }
+
+    @Test
+    @DisplayName("should not stall readers or other writers of a game while a blocking subscriber is full")
+    void blockingSubscriberDoesNotHoldGameLock() throws InterruptedException {
+        Scoreboard scoreboard = new Scoreboard();
+        CountDownLatch received = new CountDownLatch(3);
+        RecordingSubscriber subscriber = new RecordingSubscriber(0, received);
+        scoreboard.subscribe(subscriber, 1, BackpressurePolicy.BLOCK);
+        Game game = scoreboard.startGame("Spain", "Brazil");
+
+        Thread blocked = Thread.ofVirtual().start(() -> scoreboard.updateScore(game.getId(), 1, 0));
+        blocked.join(100);
+        assertTrue(blocked.isAlive(), "Delivering writer should wait for buffer space");
+
+        Thread other = Thread.ofVirtual().start(() -> {
+            scoreboard.findGame(game.getId());
+            scoreboard.updateScore(game.getId(), 2, 0);
+        });
+        other.join(5_000);
+        assertFalse(other.isAlive(), "Game should stay readable and writable");
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertTrue(received.await(5, TimeUnit.SECONDS));
+        blocked.join(5_000);
+
+        assertAll("Lossless delivery in mutation order",
+                () -> assertFalse(blocked.isAlive()),
+                () -> assertInstanceOf(ScoreboardEvent.GameStarted.class, subscriber.events.get(0)),
+                () -> assertEquals(List.of(1, 2), subscriber.events.stream().skip(1)
+                        .map(event -> ((ScoreboardEvent.ScoreUpdated) event).homeScore()).toList())
+        );
+    }
+
+    @Test
+    @DisplayName("should let a blocking subscriber call back into the scoreboard")
+    void blockingSubscriberCanCallBack() throws InterruptedException {
+        Scoreboard scoreboard = new Scoreboard();
+        CountDownLatch corrected = new CountDownLatch(1);
+        Game game = scoreboard.startGame("Spain", "Brazil");
+        scoreboard.subscribe(new RecordingSubscriber(Long.MAX_VALUE, null) {
+            @Override
+            public void onNext(ScoreboardEvent item) {
+                super.onNext(item);
+                if (item instanceof ScoreboardEvent.ScoreUpdated updated) {
+                    // Publishes two events into a buffer of one from the subscriber's own delivery
+                    if (updated.homeScore() == 1) {
+                        scoreboard.updateScore(game.getId(), 2, 0);
+                        scoreboard.updateScore(game.getId(), 3, 0);
+                    } else if (updated.homeScore() == 3) {
+                        corrected.countDown();
+                    }
+                }
+            }
+        }, 1, BackpressurePolicy.BLOCK);
+
+        scoreboard.updateScore(game.getId(), 1, 0);
+
+        assertTrue(corrected.await(5, TimeUnit.SECONDS), "Callback should not deadlock delivery");
+    }
+
+    @Test
+    @DisplayName("should stop delivering after cancellation")
+    void stopsAfterCancel() {
+        RecordingSubscriber subscriber = new RecordingSubscriber(10, null);
+        publisher.subscribe(subscriber);
+
+        subscriber.subscription.cancel();
+        publisher.publish(update(1, 1, 1, 0));
+
+        assertAll("Cancelled subscription",
+                () -> assertTrue(subscriber.events.isEmpty()),
+                () -> assertFalse(publisher.hasSubscribers())
+        );
+    }
+
+    @Test
+    @DisplayName("should signal an error for non-positive demand")
+    void signalsErrorForNonPositiveDemand() {
+        RecordingSubscriber subscriber = new RecordingSubscriber(0, null);
+        publisher.subscribe(subscriber);
+
+        subscriber.subscription.request(0);
+
+        assertInstanceOf(IllegalArgumentException.class, subscriber.error);
+    }
+
+    private static ScoreboardEvent update(long sequence, long gameId, int homeScore, int awayScore) {
+        return new ScoreboardEvent.ScoreUpdated(sequence, gameId, homeScore, awayScore);
+    }
+
+    private static class RecordingSubscriber implements Flow.Subscriber<ScoreboardEvent> {
+        private final long initialDemand;
+        private final CountDownLatch received;
+        private final List<ScoreboardEvent> events = new CopyOnWriteArrayList<>();
+        private Flow.Subscription subscription;
+        private Throwable error;
+
+        RecordingSubscriber(long initialDemand, CountDownLatch received) {
+            this.initialDemand = initialDemand;
+            this.received = received;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (initialDemand > 0) {
+                subscription.request(initialDemand);
+            }
+        }
+
+        @Override
+        public void onNext(ScoreboardEvent item) {
+            events.add(item);
+            if (received != null) {
+                received.countDown();
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
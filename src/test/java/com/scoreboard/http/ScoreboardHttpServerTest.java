@@ -0,0 +1,172 @@
+package com.scoreboard.http;
+
+import com.scoreboard.Scoreboard;
+import com.scoreboard.model.Game;
+import org.junit.jupiter.api.*;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ScoreboardHttpServer")
+class ScoreboardHttpServerTest {
+
+    private Scoreboard scoreboard;
+    private ScoreboardHttpServer server;
+    private HttpClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        scoreboard = new Scoreboard();
+        server = ScoreboardHttpServer.start(scoreboard, 0);
+        client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Nested
+    @DisplayName("game endpoints")
+    class GameEndpointTests {
+
+        @Test
+        @DisplayName("should start, update, read and finish a game")
+        void supportsGameLifecycle() throws Exception {
+            HttpResponse<String> started = send("POST", "/games?home=Spain&away=Brazil");
+            long gameId = scoreboard.getAllGames().getFirst().getId();
+
+            HttpResponse<String> updated = send("PUT", "/games/" + gameId + "/score?home=2&away=1");
+            HttpResponse<String> read = send("GET", "/games/" + gameId);
+            HttpResponse<String> finished = send("DELETE", "/games/" + gameId);
+
+            assertAll("Lifecycle",
+                    () -> assertEquals(201, started.statusCode()),
+                    () -> assertTrue(started.body().contains("\"homeTeam\":\"Spain\"")),
+                    () -> assertEquals(204, updated.statusCode()),
+                    () -> assertEquals(200, read.statusCode()),
+                    () -> assertTrue(read.body().contains("\"homeScore\":2,\"awayScore\":1,\"totalScore\":3")),
+                    () -> assertEquals(204, finished.statusCode()),
+                    () -> assertEquals(0, scoreboard.getGameCount())
+            );
+        }
+
+        @Test
+        @DisplayName("should map failures to status codes")
+        void mapsFailures() throws Exception {
+            send("POST", "/games?home=Spain&away=Brazil");
+
+            assertAll("Failures",
+                    () -> assertEquals(409, send("POST", "/games?home=spain&away=Italy").statusCode()),
+                    () -> assertEquals(404, send("DELETE", "/games/999").statusCode()),
+                    () -> assertEquals(404, send("PUT", "/games/999/score?home=1&away=0").statusCode()),
+                    () -> assertEquals(400, send("PUT", "/games/1/score?home=-1&away=0").statusCode()),
+                    () -> assertEquals(400, send("POST", "/games?home=Spain").statusCode()),
+                    () -> assertEquals(400, send("GET", "/games/abc").statusCode()),
+                    () -> assertEquals(405, send("GET", "/games").statusCode()),
+                    () -> assertTrue(send("DELETE", "/games/999").body().startsWith("{\"error\":"))
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("summary endpoints")
+    class SummaryEndpointTests {
+
+        @Test
+        @DisplayName("should return summary pages in summary order")
+        void returnsPages() throws Exception {
+            Game mexico = scoreboard.startGame("Mexico", "Canada");
+            Game spain = scoreboard.startGame("Spain", "Brazil");
+            scoreboard.startGame("Germany", "France");
+            scoreboard.updateScore(mexico.getId(), 0, 5);
+            scoreboard.updateScore(spain.getId(), 10, 2);
+
+            String full = send("GET", "/summary").body();
+            String top = send("GET", "/summary/top?k=1").body();
+            String page = send("GET", "/summary?offset=1&limit=1").body();
+
+            assertAll("Summary",
+                    () -> assertTrue(full.startsWith("[{\"id\":" + spain.getId())),
+                    () -> assertTrue(full.indexOf("Mexico") < full.indexOf("Germany")),
+                    () -> assertEquals(full.substring(0, full.indexOf("},{") + 1) + "]", top),
+                    () -> assertTrue(page.startsWith("[{\"id\":" + mexico.getId()) && page.endsWith("}]")),
+                    () -> assertEquals("[]", send("GET", "/summary?offset=10").body()),
+                    () -> assertEquals(400, send("GET", "/summary?limit=-1").statusCode())
+            );
+        }
+
+        @Test
+        @DisplayName("should tag summaries with the snapshot version and negotiate the format")
+        void supportsConditionalRequests() throws Exception {
+            scoreboard.startGame("Spain", "Brazil");
+            HttpResponse<String> first = send("GET", "/summary");
+            String etag = first.headers().firstValue("ETag").orElseThrow();
+
+            HttpResponse<String> unchanged = client.send(request("GET", "/summary").header("If-None-Match", etag).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            scoreboard.startGame("Mexico", "Canada");
+            HttpResponse<String> changed = client.send(request("GET", "/summary").header("If-None-Match", etag).build(),
+                    HttpResponse.BodyHandlers.ofString());
+
+            HttpResponse<String> text = client.send(request("GET", "/summary").header("Accept", "text/plain").build(),
+                    HttpResponse.BodyHandlers.ofString());
+
+            assertAll("Conditional",
+                    () -> assertEquals("1. Mexico 0 - 0 Canada\n2. Spain 0 - 0 Brazil\n", text.body()),
+                    () -> assertNotEquals(etag, text.headers().firstValue("ETag").orElseThrow()),
+                    () -> assertEquals(304, unchanged.statusCode()),
+                    () -> assertEquals(200, changed.statusCode()),
+                    () -> assertTrue(changed.body().contains("Mexico"))
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("should stream changes as server-sent events")
+    void streamsEvents() throws Exception {
+        HttpResponse<InputStream> stream = client.send(request("GET", "/events").build(),
+                HttpResponse.BodyHandlers.ofInputStream());
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream.body(), StandardCharsets.UTF_8))) {
+            assertEquals(": connected", reader.readLine());
+            Game game = scoreboard.startGame("Spain", "Brazil");
+            scoreboard.updateScore(game.getId(), 1, 0);
+            scoreboard.finishGame(game.getId());
+
+            List<String> events = new ArrayList<>();
+            String line;
+            while (events.size() < 3 && (line = reader.readLine()) != null) {
+                if (line.startsWith("event: ")) {
+                    events.add(line.substring("event: ".length()));
+                }
+            }
+
+            assertAll("Event stream",
+                    () -> assertEquals("text/event-stream; charset=utf-8",
+                            stream.headers().firstValue("Content-Type").orElseThrow()),
+                    () -> assertEquals(List.of("game-started", "score-updated", "game-finished"), events)
+            );
+        }
+    }
+
+    private HttpResponse<String> send(String method, String path) throws Exception {
+        return client.send(request(method, path).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest.Builder request(String method, String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() + path))
+                .timeout(Duration.ofSeconds(5))
+                .method(method, HttpRequest.BodyPublishers.noBody());
+    }
+}
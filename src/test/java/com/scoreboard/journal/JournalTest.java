@@ -0,0 +1,361 @@
+package com.scoreboard.journal;
+
+import com.scoreboard.IngestOutcome;
+import com.scoreboard.Scoreboard;
+import com.scoreboard.model.Game;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Journal")
+class JournalTest {
+
+    @TempDir
+    Path directory;
+
+    private JournalConfig config;
+
+    @BeforeEach
+    void setUp() {
+        config = JournalConfig.of(directory.resolve("scoreboard.journal"));
+    }
+
+    @Test
+    @DisplayName("should restore live games, scores, teams and IDs after a restart")
+    void restoresStateAfterRestart() throws IOException {
+        Game spain;
+        Game germany;
+        try (Journal journal = Journal.open(config)) {
+            Scoreboard scoreboard = new Scoreboard(journal);
+            spain = scoreboard.startGame("Spain", "Brazil");
+            germany = scoreboard.startGame("Germany", "France");
+            Game mexico = scoreboard.startGame("Mexico", "Canada");
+            scoreboard.updateScore(spain.getId(), 2, 1);
+            scoreboard.updateScore(germany.getId(), 0, 4);
+            scoreboard.finishGame(mexico.getId());
+        }
+
+        try (Journal journal = Journal.open(config)) {
+            Scoreboard restored = new Scoreboard(journal);
+            Game nextGame = restored.startGame("Mexico", "Canada");
+
+            assertAll("Restored state",
+                    () -> assertEquals(3, restored.getGameCount()),
+                    () -> assertEquals(List.of(germany, spain, nextGame), restored.getSummary()),
+                    () -> assertEquals(3, restored.findGame(spain.getId()).orElseThrow().getTotalScore()),
+                    () -> assertEquals(spain.getStartTime(),
+                            restored.findGame(spain.getId()).orElseThrow().getStartTime()),
+                    () -> assertEquals(spain.getStartSequence(),
+                            restored.findGame(spain.getId()).orElseThrow().getStartSequence()),
+                    () -> assertTrue(nextGame.getStartSequence() > germany.getStartSequence(),
+                            "Start sequences continue after the last journaled game"),
+                    () -> assertTrue(restored.isTeamPlaying("Brazil")),
+                    () -> assertEquals(4L, nextGame.getId(), "IDs continue after the last journaled game")
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("should keep rejecting stale feed versions after a restart")
+    void rejectsStaleFeedVersionsAfterRestart() throws IOException {
+        Game spain;
+        Game germany;
+        try (Journal journal = Journal.open(config)) {
+            Scoreboard scoreboard = new Scoreboard(journal);
+            spain = scoreboard.startGame("Spain", "Brazil");
+            germany = scoreboard.startGame("Germany", "France");
+            scoreboard.ingestScore(spain.getId(), 1, 0, 5);
+            scoreboard.checkpoint();
+            // Journaled after the checkpoint, so restored from the journal rather than the snapshot
+            scoreboard.ingestScore(germany.getId(), 0, 2, 7);
+        }
+
+        try (Journal journal = Journal.open(config)) {
+            Scoreboard restored = new Scoreboard(journal);
+
+            assertAll("Restored feed versions",
+                    () -> assertEquals(IngestOutcome.STALE, restored.ingestScore(spain.getId(), 0, 0, 4)),
+                    () -> assertEquals(IngestOutcome.STALE, restored.ingestScore(spain.getId(), 1, 0, 5)),
+                    () -> assertEquals(IngestOutcome.STALE, restored.ingestScore(germany.getId(), 0, 1, 6)),
+                    () -> assertEquals(IngestOutcome.ACCEPTED, restored.ingestScore(germany.getId(), 0, 3, 8)),
+                    () -> assertEquals(1, restored.findGame(spain.getId()).orElseThrow().getTotalScore())
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("should make appended records durable on sync")
+    void makesRecordsDurableOnSync() throws IOException {
+        try (Journal journal = Journal.open(config)) {
+            journal.appendGameStarted(1, "Spain", "Brazil", Instant.EPOCH, 1, null);
+            journal.appendScoreUpdated(1, 1, 0);
+            journal.sync();
+
+            assertEquals(2, readRecords(config).size());
+        }
+    }
+
+    @Test
+    @DisplayName("should flush a group once the commit size is reached")
+    void flushesGroupAtCommitSize() throws Exception {
+        JournalConfig grouped = new JournalConfig(config.path(), 2, Duration.ofHours(1), Duration.ZERO);
+        try (Journal journal = Journal.open(grouped)) {
+            journal.appendGameStarted(1, "Spain", "Brazil", Instant.EPOCH, 1, null);
+            journal.appendScoreUpdated(1, 1, 0);
+
+            long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (Files.size(grouped.path()) == 0 && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            assertTrue(Files.size(grouped.path()) > 0);
+        }
+    }
+
+    @Test
+    @DisplayName("should truncate a torn tail and keep appending after it")
+    void truncatesTornTail() throws IOException {
+        try (Journal journal = Journal.open(config)) {
+            journal.appendGameStarted(1, "Spain", "Brazil", Instant.EPOCH, 1, null);
+        }
+        try (FileChannel channel = FileChannel.open(config.path(), StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0, 0, 0, 40, 1, 2}));
+        }
+
+        try (Journal journal = Journal.open(config)) {
+            journal.appendGameFinished(1);
+        }
+
+        assertEquals(List.of("start 1 Spain Brazil", "finish 1"), readRecords(config));
+    }
+
+    @Test
+    @DisplayName("should restore from a checkpoint plus the records appended after it")
+    void restoresFromCheckpointAndTail() throws IOException {
+        Game spain;
+        Game germany;
+        try (Journal journal = Journal.open(config)) {
+            Scoreboard scoreboard = new Scoreboard(journal);
+            spain = scoreboard.startGame("Spain", "Brazil", "Group A");
+            germany = scoreboard.startGame("Germany", "France");
+            Game mexico = scoreboard.startGame("Mexico", "Canada");
+            scoreboard.updateScore(spain.getId(), 1, 1);
+            scoreboard.finishGame(mexico.getId());
+
+            scoreboard.checkpoint();
+
+            scoreboard.updateScore(germany.getId(), 3, 0);
+            scoreboard.updateScore(spain.getId(), 2, 1);
+            scoreboard.startGame("Italy", "Chile", "Group A");
+        }
+
+        assertEquals(List.of("next 4", "start 1 Spain Brazil [Group A]", "update 1 1-1",
+                        "start 2 Germany France", "update 2 0-0", "update 2 3-0", "update 1 2-1",
+                        "start 4 Italy Chile [Group A]"),
+                readRecords(config), "Snapshot first, then only the records after the checkpoint");
+
+        try (Journal journal = Journal.open(config)) {
+            Scoreboard restored = new Scoreboard(journal);
+
+            assertAll("Restored from checkpoint",
+                    () -> assertEquals(List.of(germany, spain), restored.getSummary().subList(0, 2)),
+                    () -> assertEquals(List.of("Spain", "Italy"), restored.getSummaryByCompetition("group a").stream()
+                            .map(Game::getHomeTeam).toList(), "Competitions survive the snapshot and the tail"),
+                    () -> assertEquals(3, restored.findGame(spain.getId()).orElseThrow().getTotalScore()),
+                    () -> assertEquals(spain.getStartTime(),
+                            restored.findGame(spain.getId()).orElseThrow().getStartTime()),
+                    () -> assertEquals(spain.getStartSequence(),
+                            restored.findGame(spain.getId()).orElseThrow().getStartSequence()),
+                    () -> assertFalse(restored.isTeamPlaying("Mexico")),
+                    () -> assertEquals(5L, restored.startGame("Mexico", "Canada").getId())
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("should keep the journal bounded by live state across checkpoints")
+    void keepsJournalBoundedAcrossCheckpoints() throws IOException {
+        try (Journal journal = Journal.open(config)) {
+            Scoreboard scoreboard = new Scoreboard(journal);
+            Game game = scoreboard.startGame("Spain", "Brazil");
+            for (int i = 0; i < 1_000; i++) {
+                scoreboard.updateScore(game.getId(), i % 10, i % 7);
+            }
+
+            scoreboard.checkpoint();
+            scoreboard.checkpoint();
+
+            assertAll("Compacted files",
+                    () -> assertEquals(16, Files.size(config.path()), "Only the segment header remains"),
+                    () -> assertEquals(List.of(config.path().getFileName().toString(),
+                                    config.path().getFileName() + ".snapshot"),
+                            listDirectory())
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("should keep every live game in checkpoints taken during score updates")
+    void keepsGamesInCheckpointsDuringUpdates() throws Exception {
+        List<Game> started = new ArrayList<>();
+        try (Journal journal = Journal.open(config)) {
+            Scoreboard scoreboard = new Scoreboard(journal);
+            for (int i = 0; i < 16; i++) {
+                started.add(scoreboard.startGame("Home " + i, "Away " + i));
+            }
+
+            AtomicBoolean running = new AtomicBoolean(true);
+            Thread updater = Thread.ofPlatform().start(() -> {
+                // Every update changes the total, so each one moves the game in the summary index
+                for (int round = 1; running.get(); round++) {
+                    for (Game game : started) {
+                        scoreboard.updateScore(game.getId(), round % 10, 0);
+                    }
+                }
+            });
+            try {
+                for (int i = 0; i < 100; i++) {
+                    scoreboard.checkpoint();
+                    RecordingHandler snapshot = new RecordingHandler();
+                    SnapshotFile.replay(config.snapshotPath(), snapshot);
+                    assertEquals(started.size(), snapshot.records.stream().filter(r -> r.startsWith("start")).count(),
+                            "Checkpoint " + i + " holds every live game");
+                }
+            } finally {
+                running.set(false);
+                updater.join();
+            }
+            for (Game game : started) {
+                scoreboard.updateScore(game.getId(), 7, 1);
+            }
+        }
+
+        try (Journal journal = Journal.open(config)) {
+            Scoreboard restored = new Scoreboard(journal);
+
+            assertAll("Restored after concurrent checkpoints",
+                    () -> assertEquals(started.size(), restored.getGameCount()),
+                    () -> assertTrue(started.stream().allMatch(game ->
+                            restored.findGame(game.getId()).orElseThrow().getTotalScore() == 8))
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("should checkpoint periodically when an interval is configured")
+    void checkpointsPeriodically() throws IOException {
+        JournalConfig periodic = config.withCheckpointInterval(Duration.ofMillis(20));
+        try (Journal journal = Journal.open(periodic)) {
+            new Scoreboard(journal).startGame("Spain", "Brazil");
+
+            long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (!Files.exists(periodic.snapshotPath()) && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            assertTrue(Files.exists(periodic.snapshotPath()));
+        }
+    }
+
+    @Test
+    @DisplayName("should replay a retired segment left behind by an interrupted checkpoint")
+    void replaysRetiredSegment() throws IOException {
+        try (Journal journal = Journal.open(config)) {
+            journal.appendGameStarted(1, "Spain", "Brazil", Instant.EPOCH, 1, null);
+            journal.appendScoreUpdated(1, 1, 0);
+        }
+        // Simulates a crash after rotation but before the snapshot was written
+        Files.move(config.path(), directory.resolve("scoreboard.journal.0"));
+
+        try (Journal journal = Journal.open(config)) {
+            journal.appendScoreUpdated(1, 2, 0);
+        }
+
+        assertEquals(List.of("start 1 Spain Brazil", "update 1 1-0", "update 1 2-0"), readRecords(config));
+    }
+
+    @Test
+    @DisplayName("should reject a checkpoint without an attached source")
+    void rejectsCheckpointWithoutSource() throws IOException {
+        try (Journal journal = Journal.open(config)) {
+            assertThrows(IllegalStateException.class, journal::checkpoint);
+        }
+        assertThrows(IllegalStateException.class, () -> new Scoreboard().checkpoint());
+    }
+
+    @Test
+    @DisplayName("should reject replay after records were appended")
+    void rejectsReplayAfterAppend() throws IOException {
+        try (Journal journal = Journal.open(config)) {
+            journal.appendGameFinished(1);
+
+            assertThrows(IllegalStateException.class, () -> journal.replay(new RecordingHandler()));
+        }
+    }
+
+    @Test
+    @DisplayName("should reject invalid configuration")
+    void rejectsInvalidConfiguration() {
+        Path path = config.path();
+        assertAll("Invalid configuration",
+                () -> assertThrows(NullPointerException.class, () -> JournalConfig.of(null)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> new JournalConfig(path, 0, Duration.ofMillis(1), Duration.ZERO)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> new JournalConfig(path, 1, Duration.ZERO, Duration.ZERO)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> new JournalConfig(path, 1, Duration.ofMillis(1), Duration.ofSeconds(-1)))
+        );
+    }
+
+    private List<String> listDirectory() throws IOException {
+        try (var files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString()).sorted().toList();
+        }
+    }
+
+    private static List<String> readRecords(JournalConfig config) throws IOException {
+        RecordingHandler handler = new RecordingHandler();
+        try (Journal journal = Journal.open(config)) {
+            journal.replay(handler);
+        }
+        return handler.records;
+    }
+
+    private static final class RecordingHandler implements JournalReplayHandler {
+        private final List<String> records = new ArrayList<>();
+
+        @Override
+        public void onNextGameId(long nextGameId) {
+            records.add("next " + nextGameId);
+        }
+
+        @Override
+        public void onGameStarted(long gameId, String homeTeam, String awayTeam, Instant startTime, long startSequence,
+                                  String competition) {
+            records.add("start " + gameId + " " + homeTeam + " " + awayTeam + (competition == null ? "" : " [" + competition + "]"));
+        }
+
+        @Override
+        public void onScoreUpdated(long gameId, int homeScore, int awayScore, long sourceVersion) {
+            records.add("update " + gameId + " " + homeScore + "-" + awayScore
+                    + (sourceVersion == Long.MIN_VALUE ? "" : " v" + sourceVersion));
+        }
+
+        @Override
+        public void onGameFinished(long gameId) {
+            records.add("finish " + gameId);
+        }
+    }
+}
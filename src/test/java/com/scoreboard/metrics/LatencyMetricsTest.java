@@ -0,0 +1,128 @@
+package com.scoreboard.metrics;
+
+import com.scoreboard.GameNotFoundException;
+import com.scoreboard.GameStart;
+import com.scoreboard.Scoreboard;
+import com.scoreboard.TeamAlreadyPlayingException;
+import com.scoreboard.metrics.ScoreboardMetrics.Failure;
+import com.scoreboard.metrics.ScoreboardMetrics.Operation;
+import com.scoreboard.model.Game;
+import org.junit.jupiter.api.*;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LatencyMetrics")
+class LatencyMetricsTest {
+
+    private LatencyMetrics metrics;
+    private Scoreboard scoreboard;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new LatencyMetrics();
+        scoreboard = new Scoreboard(metrics);
+    }
+
+    @Nested
+    @DisplayName("histogram")
+    class HistogramTests {
+
+        @Test
+        @DisplayName("should report percentiles within the bucket precision")
+        void reportsPercentiles() {
+            LatencyHistogram histogram = new LatencyHistogram();
+            for (long value = 1; value <= 10_000; value++) {
+                histogram.record(value * 1_000);
+            }
+
+            LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+            assertAll("Percentiles",
+                    () -> assertEquals(10_000, snapshot.count()),
+                    () -> assertEquals(5_000_000, snapshot.valueAtPercentile(50), 5_000_000 * 0.07),
+                    () -> assertEquals(9_900_000, snapshot.valueAtPercentile(99), 9_900_000 * 0.07),
+                    () -> assertEquals(10_000_000, snapshot.max(), 10_000_000 * 0.07),
+                    () -> assertEquals(5_000_500, snapshot.mean(), 1),
+                    () -> assertThrows(IllegalArgumentException.class, () -> snapshot.valueAtPercentile(101))
+            );
+        }
+
+        @Test
+        @DisplayName("should map every value into a bucket that contains it")
+        void bucketsContainTheirValues() {
+            for (long value = 0; value < 100_000; value += 7) {
+                int bucket = LatencyHistogram.bucketOf(value);
+                assertTrue(value <= LatencyHistogram.upperBoundOf(bucket));
+                assertTrue(bucket == 0 || value > LatencyHistogram.upperBoundOf(bucket - 1));
+            }
+            assertEquals(LatencyHistogram.BUCKETS - 1, LatencyHistogram.bucketOf(Long.MAX_VALUE));
+        }
+    }
+
+    @Nested
+    @DisplayName("scoreboard instrumentation")
+    class InstrumentationTests {
+
+        @Test
+        @DisplayName("should count operations, failures and gauges")
+        void countsOperationsAndFailures() {
+            Game game = scoreboard.startGame("Spain", "Brazil");
+            scoreboard.updateScore(game.getId(), 1, 0);
+            scoreboard.getSummary();
+            assertThrows(TeamAlreadyPlayingException.class, () -> scoreboard.startGame("Spain", "Italy"));
+            assertThrows(GameNotFoundException.class, () -> scoreboard.updateScore(999L, 1, 0));
+            assertThrows(IllegalArgumentException.class, () -> scoreboard.updateScore(game.getId(), -1, 0));
+            scoreboard.startGames(List.of(new GameStart("Mexico", "Canada"), new GameStart("Brazil", "Chile")));
+
+            assertAll("Metrics",
+                    () -> assertEquals(2, metrics.getLatency(Operation.START_GAME).count()),
+                    () -> assertEquals(3, metrics.getLatency(Operation.UPDATE_SCORE).count()),
+                    () -> assertEquals(1, metrics.getLatency(Operation.GET_SUMMARY).count()),
+                    () -> assertEquals(1, metrics.getLatency(Operation.START_GAMES).count()),
+                    () -> assertEquals(2, metrics.getFailureCount(Failure.TEAM_ALREADY_PLAYING)),
+                    () -> assertEquals(1, metrics.getFailureCount(Failure.GAME_NOT_FOUND)),
+                    () -> assertEquals(1, metrics.getFailureCount(Failure.INVALID_ARGUMENT)),
+                    () -> assertEquals(2, metrics.getLiveGames()),
+                    () -> assertEquals(4, metrics.getActiveTeams())
+            );
+        }
+
+        @Test
+        @DisplayName("should render a text report")
+        void rendersText() {
+            Game game = scoreboard.startGame("Spain", "Brazil");
+            scoreboard.finishGame(game.getId());
+
+            String text = metrics.toText();
+
+            assertAll("Text report",
+                    () -> assertTrue(text.contains("scoreboard_live_games 0\n")),
+                    () -> assertTrue(text.contains("scoreboard_operations_total{operation=\"finish_game\"} 1\n")),
+                    () -> assertTrue(text.contains("scoreboard_operation_latency_nanos{operation=\"start_game\",quantile=\"0.99\"} ")),
+                    () -> assertTrue(text.contains("scoreboard_failures_total{failure=\"game_not_found\"} 0\n"))
+            );
+        }
+
+        @Test
+        @DisplayName("should expose metrics over JMX")
+        void exposesMBean() throws Exception {
+            scoreboard.startGame("Spain", "Brazil");
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = metrics.registerMBean("jmx-test");
+            try {
+                assertAll("MBean",
+                        () -> assertEquals(1, server.getAttribute(name, "LiveGames")),
+                        () -> assertEquals(2, server.getAttribute(name, "ActiveTeams")),
+                        () -> assertNotNull(server.getAttribute(name, "OperationCounts"))
+                );
+            } finally {
+                server.unregisterMBean(name);
+            }
+        }
+    }
+}
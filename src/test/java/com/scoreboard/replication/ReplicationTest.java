@@ -0,0 +1,239 @@
+package com.scoreboard.replication;
+
+import com.scoreboard.IngestOutcome;
+import com.scoreboard.Scoreboard;
+import com.scoreboard.journal.Journal;
+import com.scoreboard.journal.JournalConfig;
+import com.scoreboard.model.Game;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Replication")
+class ReplicationTest {
+
+    private Scoreboard primaryBoard;
+    private ReplicationPrimary primary;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        primaryBoard = new Scoreboard();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        primary.close();
+    }
+
+    @Test
+    @DisplayName("should sync existing games and stream later changes in summary order")
+    void streamsChanges() throws Exception {
+        Game spain = primaryBoard.startGame("Spain", "Brazil");
+        primaryBoard.updateScore(spain.getId(), 1, 0);
+        primary = ReplicationPrimary.start(primaryBoard, 0);
+        Scoreboard replicaBoard = new Scoreboard();
+
+        try (ReplicationReplica replica = ReplicationReplica.start(replicaBoard, address())) {
+            Game mexico = primaryBoard.startGame("Mexico", "Canada");
+            primaryBoard.updateScore(mexico.getId(), 3, 2);
+            primaryBoard.startGame("Germany", "France");
+            primaryBoard.finishGame(spain.getId());
+
+            awaitCaughtUp(replica, replicaBoard);
+
+            assertAll("Replica",
+                    () -> assertEquals(describe(primaryBoard), describe(replicaBoard)),
+                    () -> assertEquals(5, replicaBoard.findGame(mexico.getId()).orElseThrow().getTotalScore()),
+                    () -> assertFalse(replicaBoard.isTeamPlaying("Spain")),
+                    () -> assertEquals(primary.getPrimaryId(), replica.getPrimaryId()),
+                    () -> assertEquals(1, replica.getResyncCount())
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("should resume from the last applied sequence without a snapshot")
+    void resumesFromPosition() throws Exception {
+        primary = ReplicationPrimary.start(primaryBoard, 0);
+        Scoreboard replicaBoard = new Scoreboard();
+        Game spain = primaryBoard.startGame("Spain", "Brazil");
+        long primaryId;
+        long lastApplied;
+        try (ReplicationReplica replica = ReplicationReplica.start(replicaBoard, address())) {
+            awaitCaughtUp(replica, replicaBoard);
+            primaryId = replica.getPrimaryId();
+            lastApplied = replica.getLastAppliedSequence();
+        }
+
+        primaryBoard.updateScore(spain.getId(), 2, 2);
+        primaryBoard.startGame("Mexico", "Canada");
+
+        try (ReplicationReplica replica = ReplicationReplica.start(replicaBoard, address(), primaryId, lastApplied)) {
+            awaitCaughtUp(replica, replicaBoard);
+
+            assertAll("Resumed",
+                    () -> assertEquals(describe(primaryBoard), describe(replicaBoard)),
+                    () -> assertEquals(0, replica.getResyncCount()),
+                    () -> assertEquals(primaryBoard.getLastEventSequence(), replica.getLastAppliedSequence())
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("should resync from a snapshot after falling out of the log")
+    void resyncsAfterEviction() throws Exception {
+        primary = ReplicationPrimary.start(primaryBoard,
+                new ServerSocket(0, 50, InetAddress.getLoopbackAddress()), 16);
+        Scoreboard replicaBoard = new Scoreboard();
+        Game spain = primaryBoard.startGame("Spain", "Brazil");
+        long primaryId;
+        long lastApplied;
+        try (ReplicationReplica replica = ReplicationReplica.start(replicaBoard, address())) {
+            awaitCaughtUp(replica, replicaBoard);
+            primaryId = replica.getPrimaryId();
+            lastApplied = replica.getLastAppliedSequence();
+        }
+
+        for (int i = 0; i < 40; i++) {
+            primaryBoard.startGame("Home " + i, "Away " + i);
+        }
+        primaryBoard.finishGame(spain.getId());
+
+        try (ReplicationReplica replica = ReplicationReplica.start(replicaBoard, address(), primaryId, lastApplied)) {
+            awaitCaughtUp(replica, replicaBoard);
+
+            assertAll("Resynced",
+                    () -> assertEquals(describe(primaryBoard), describe(replicaBoard)),
+                    () -> assertEquals(1, replica.getResyncCount()),
+                    () -> assertFalse(replicaBoard.isTeamPlaying("Spain"))
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("should resync when following a different primary")
+    void resyncsOnNewPrimary() throws Exception {
+        primary = ReplicationPrimary.start(primaryBoard, 0);
+        primaryBoard.startGame("Spain", "Brazil");
+        Scoreboard replicaBoard = new Scoreboard();
+        replicaBoard.startGame("Germany", "France");
+
+        try (ReplicationReplica replica = ReplicationReplica.start(replicaBoard, address(), 42, 1)) {
+            awaitCaughtUp(replica, replicaBoard);
+
+            assertAll("New primary",
+                    () -> assertEquals(describe(primaryBoard), describe(replicaBoard)),
+                    () -> assertFalse(replicaBoard.isTeamPlaying("Germany"), "Local state is replaced"),
+                    () -> assertEquals(1, replica.getResyncCount())
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("should keep every live game in a snapshot taken during score updates")
+    void keepsGamesInSnapshotDuringUpdates() throws Exception {
+        List<Game> games = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            games.add(primaryBoard.startGame("Home " + i, "Away " + i));
+        }
+        primary = ReplicationPrimary.start(primaryBoard, 0);
+        Scoreboard replicaBoard = new Scoreboard();
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread updater = Thread.ofPlatform().start(() -> {
+            // Every update changes the total, so each one moves the game in the summary index
+            for (int round = 1; running.get(); round++) {
+                for (Game game : games) {
+                    primaryBoard.updateScore(game.getId(), round % 10, 0);
+                }
+            }
+        });
+        try (ReplicationReplica replica = ReplicationReplica.start(replicaBoard, address())) {
+            awaitCondition(() -> replica.getResyncCount() > 0);
+            running.set(false);
+            updater.join();
+
+            awaitCaughtUp(replica, replicaBoard);
+
+            assertEquals(games.size(), replicaBoard.getGameCount());
+        } finally {
+            running.set(false);
+            updater.join();
+        }
+    }
+
+    @Test
+    @DisplayName("should reject stale feed versions on the replica")
+    void rejectsStaleFeedVersionsOnReplica() throws Exception {
+        Game snapshotted = primaryBoard.startGame("Spain", "Brazil");
+        primaryBoard.ingestScore(snapshotted.getId(), 1, 0, 5);
+        primary = ReplicationPrimary.start(primaryBoard, 0);
+        Scoreboard replicaBoard = new Scoreboard();
+
+        try (ReplicationReplica replica = ReplicationReplica.start(replicaBoard, address())) {
+            Game streamed = primaryBoard.startGame("Germany", "France");
+            primaryBoard.ingestScore(streamed.getId(), 0, 2, 7);
+            awaitCaughtUp(replica, replicaBoard);
+
+            assertAll("Replicated feed versions",
+                    () -> assertEquals(IngestOutcome.STALE, replicaBoard.ingestScore(snapshotted.getId(), 0, 0, 4)),
+                    () -> assertEquals(IngestOutcome.STALE, replicaBoard.ingestScore(streamed.getId(), 0, 1, 7))
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("should count a change that fails to apply and keep resyncing")
+    void resyncsAfterApplyFailure(@TempDir Path directory) throws Exception {
+        primaryBoard.startGame("Spain", "Brazil");
+        primary = ReplicationPrimary.start(primaryBoard, 0);
+        Journal journal = Journal.open(JournalConfig.of(directory.resolve("replica.journal")));
+        Scoreboard replicaBoard = new Scoreboard(journal);
+        // Every replicated start now fails to be journaled
+        journal.close();
+
+        try (ReplicationReplica replica = ReplicationReplica.start(replicaBoard, address())) {
+            awaitCondition(() -> replica.getFailureCount() >= 2);
+
+            assertAll("Failed replica",
+                    () -> assertInstanceOf(IllegalStateException.class, replica.getLastFailure()),
+                    () -> assertEquals(-1, replica.getLastAppliedSequence(), "Next connection resyncs")
+            );
+        }
+    }
+
+    private InetSocketAddress address() {
+        return new InetSocketAddress(InetAddress.getLoopbackAddress(), primary.getPort());
+    }
+
+    private void awaitCaughtUp(ReplicationReplica replica, Scoreboard replicaBoard) throws InterruptedException {
+        awaitCondition(() -> replica.getLastAppliedSequence() == primaryBoard.getLastEventSequence()
+                && describe(replicaBoard).equals(describe(primaryBoard)));
+    }
+
+    private static List<String> describe(Scoreboard scoreboard) {
+        return scoreboard.getSummary().stream()
+                .map(game -> game.getId() + " " + game)
+                .toList();
+    }
+
+    private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Replica did not catch up in time");
+            }
+            Thread.sleep(10);
+        }
+    }
+}